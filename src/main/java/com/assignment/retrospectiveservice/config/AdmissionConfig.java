@@ -0,0 +1,64 @@
+package com.assignment.retrospectiveservice.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Registers the {@link ConnectionPoolAdmissionFilter} for the retrospective
+ * endpoints, configured under {@code retrospective.admission}. Unless
+ * {@code max-concurrent-reads} is set, the number of admitted reads follows
+ * the maximum size of the Hikari connection pool.
+ */
+@Configuration
+@Slf4j
+@ConditionalOnProperty(name = "retrospective.admission.enabled", matchIfMissing = true)
+public class AdmissionConfig {
+
+    /**
+     * Pool size assumed when the data source is not a Hikari pool or its size is
+     * left to the Hikari default, which is only resolved once the pool starts.
+     */
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    /**
+     * Gauge of the reads that can currently be admitted without waiting.
+     */
+    public static final String AVAILABLE_PERMITS_GAUGE = "retrospective.admission.permits.available";
+
+    @Bean
+    public FilterRegistrationBean<ConnectionPoolAdmissionFilter> connectionPoolAdmissionFilter(
+            DataSource dataSource, MeterRegistry meterRegistry,
+            @Value("${retrospective.admission.max-concurrent-reads:0}") int maxConcurrentReads,
+            @Value("${retrospective.admission.timeout:500ms}") Duration timeout,
+            @Value("${retrospective.admission.retry-after:1s}") Duration retryAfter) {
+        int permits = maxConcurrentReads > 0 ? maxConcurrentReads : poolSize(dataSource);
+        log.info("Admitting up to {} concurrent reads (timeout={})", permits, timeout);
+        ConnectionPoolAdmissionFilter filter = new ConnectionPoolAdmissionFilter(permits, timeout, retryAfter);
+        Gauge.builder(AVAILABLE_PERMITS_GAUGE, filter, ConnectionPoolAdmissionFilter::getAvailablePermits)
+                .description("Reads that can be admitted without waiting")
+                .register(meterRegistry);
+        FilterRegistrationBean<ConnectionPoolAdmissionFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/retrospectives", "/retrospectives/*");
+        return registration;
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikariDataSource && hikariDataSource.getMaximumPoolSize() > 0) {
+            return hikariDataSource.getMaximumPoolSize();
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+}
@@ -0,0 +1,34 @@
+package com.assignment.retrospectiveservice.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+/**
+ * Message converters for the binary CBOR ({@code application/cbor}) and Smile
+ * ({@code application/x-jackson-smile}) encodings of the JSON data model, for
+ * service-to-service callers. Their mappers are configured like the JSON one
+ * in {@link JacksonConfig}, so the three formats carry the same properties.
+ * Spring Boot adds converter beans to the ones it registers itself.
+ */
+@Configuration
+public class BinaryFormatConfig {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf(APPLICATION_SMILE_VALUE);
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+        return new MappingJackson2CborHttpMessageConverter(JacksonConfig.configure(new CBORMapper()));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter() {
+        return new MappingJackson2SmileHttpMessageConverter(JacksonConfig.configure(new SmileMapper()));
+    }
+}
@@ -0,0 +1,94 @@
+package com.assignment.retrospectiveservice.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.unit.DataSize;
+
+import com.assignment.retrospectiveservice.service.RenderedRetrospective;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Enables the in-process Caffeine caches configured under {@code spring.cache}.
+ * <p>
+ * The caching advice is ordered before the transaction advice, so cache hits
+ * never open a transaction and evictions only happen once the write has been
+ * committed.
+ * <p>
+ * Retrospectives and their revisions are loaded with {@code sync = true}, that
+ * is inside the Caffeine computation of the missing entry, transaction
+ * included. An eviction of that entry waits for the computation to finish and
+ * then removes what it stored, so a read that loaded the state from before a
+ * write cannot cache it after the write's eviction; evicting alone would leave
+ * it cached until {@code expireAfterWrite}. Reads that miss on the same name
+ * wait for the one load rather than each querying the database.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    /**
+     * Retrospective DTOs, keyed by retrospective name.
+     */
+    public static final String RETROSPECTIVES = "retrospectives";
+
+    /**
+     * Retrospective ids, keyed by retrospective name. Names never change, so
+     * entries only leave the cache through size and TTL eviction.
+     */
+    public static final String RETROSPECTIVE_IDS = "retrospectiveIds";
+
+    /**
+     * Retrospective revisions, keyed by retrospective name, evicted together with
+     * the retrospective DTOs.
+     */
+    public static final String RETROSPECTIVE_REVISIONS = "retrospectiveRevisions";
+
+    /**
+     * Rendered response bodies of past retrospectives, keyed by retrospective
+     * name, evicted together with the retrospective DTOs.
+     */
+    public static final String RENDERED_RETROSPECTIVES = "renderedRetrospectives";
+
+    /**
+     * Retrospectives created with an {@code Idempotency-Key}, keyed by the key,
+     * together with the request that created them.
+     */
+    public static final String IDEMPOTENT_CREATIONS = "idempotentCreations";
+
+    /**
+     * Bounds the rendered bodies by their size in bytes rather than by the number
+     * of entries, since a large board renders to megabytes.
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> renderedRetrospectivesCacheCustomizer(
+            @Value("${retrospective.rendered-cache.max-size:64MB}") DataSize maxSize) {
+        return cacheManager -> cacheManager.registerCustomCache(RENDERED_RETROSPECTIVES, Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Object name, Object rendered) -> ((RenderedRetrospective) rendered).weight())
+                .recordStats()
+                .build());
+    }
+
+    /**
+     * Keeps idempotency keys for as long as clients may retry a creation, and no
+     * more of them than fit in memory. Keys that are evicted early only lose the
+     * replay: a retry then fails on the unique name instead.
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> idempotentCreationsCacheCustomizer(
+            @Value("${retrospective.idempotency.max-keys:10000}") long maxKeys,
+            @Value("${retrospective.idempotency.retention:24h}") Duration retention) {
+        return cacheManager -> cacheManager.registerCustomCache(IDEMPOTENT_CREATIONS, Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(retention)
+                .recordStats()
+                .build());
+    }
+}
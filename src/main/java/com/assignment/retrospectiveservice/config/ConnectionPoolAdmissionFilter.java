@@ -0,0 +1,131 @@
+package com.assignment.retrospectiveservice.config;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Admits a bounded number of concurrent GET requests, sized to the JDBC
+ * connection pool.
+ * <p>
+ * On virtual threads the servlet container no longer caps concurrency at the
+ * size of its thread pool, so every request beyond the number of pooled
+ * connections would park inside the pool until its connection timeout. Instead,
+ * requests wait here for at most {@code timeout} and are then rejected with
+ * {@code 503 Service Unavailable} and a {@code Retry-After} header. Requests
+ * that continue asynchronously, such as the streamed export, hold their permit
+ * until the response completes.
+ */
+@Slf4j
+public class ConnectionPoolAdmissionFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final int maxConcurrentReads;
+    private final Duration timeout;
+    private final String retryAfterSeconds;
+
+    public ConnectionPoolAdmissionFilter(int maxConcurrentReads, Duration timeout, Duration retryAfter) {
+        this.permits = new Semaphore(maxConcurrentReads, true);
+        this.maxConcurrentReads = maxConcurrentReads;
+        this.timeout = timeout;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!acquire()) {
+            log.warn("Rejecting {} {}: {} reads already in progress", request.getMethod(), request.getRequestURI(),
+                    maxConcurrentReads);
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Too many concurrent requests");
+            return;
+        }
+        boolean releaseOnCompletion = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingAsyncListener());
+                releaseOnCompletion = true;
+            }
+        } finally {
+            if (!releaseOnCompletion) {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of requests that can currently be admitted without
+     * waiting.
+     *
+     * @return the number of available permits
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    private boolean acquire() {
+        try {
+            return permits.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Releases the permit of an asynchronous request exactly once, whichever way
+     * the request ends.
+     */
+    private class ReleasingAsyncListener implements AsyncListener {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+}
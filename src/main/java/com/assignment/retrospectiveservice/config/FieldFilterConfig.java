@@ -0,0 +1,53 @@
+package com.assignment.retrospectiveservice.config;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.assignment.retrospectiveservice.dto.FeedbackItemDto;
+import com.assignment.retrospectiveservice.dto.RetrospectiveDto;
+import com.assignment.retrospectiveservice.dto.RetrospectiveFields;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Attaches the {@link RetrospectiveFields} filters to the retrospective DTOs
+ * through mix-ins, so that a response can select the properties written by
+ * both the JSON and the XML message converter. Unless a response selects
+ * fields, every property is written.
+ */
+@Configuration
+public class FieldFilterConfig {
+
+    /**
+     * Applies the filters to the mappers Spring Boot builds, the XML one in
+     * particular.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldFilterCustomizer() {
+        return builder -> builder.mixIn(RetrospectiveDto.class, RetrospectiveFilterMixIn.class)
+                .mixIn(FeedbackItemDto.class, FeedbackItemFilterMixIn.class)
+                .filters(RetrospectiveFields.ALL.filters());
+    }
+
+    /**
+     * Applies the filters to a mapper created by hand.
+     *
+     * @param objectMapper the mapper to configure
+     * @return the same mapper
+     */
+    public static ObjectMapper registerFieldFilters(ObjectMapper objectMapper) {
+        objectMapper.addMixIn(RetrospectiveDto.class, RetrospectiveFilterMixIn.class);
+        objectMapper.addMixIn(FeedbackItemDto.class, FeedbackItemFilterMixIn.class);
+        objectMapper.setFilterProvider(RetrospectiveFields.ALL.filters());
+        return objectMapper;
+    }
+
+    @JsonFilter(RetrospectiveFields.RETROSPECTIVE_FILTER)
+    private interface RetrospectiveFilterMixIn {
+    }
+
+    @JsonFilter(RetrospectiveFields.FEEDBACK_ITEM_FILTER)
+    private interface FeedbackItemFilterMixIn {
+    }
+}
@@ -11,8 +11,18 @@ public class JacksonConfig {
 
     @Bean
     public ObjectMapper objectMapper() {
-        ObjectMapper objectMapper = new ObjectMapper();
+        return configure(new ObjectMapper());
+    }
+
+    /**
+     * Configures a mapper like the JSON one, whatever its data format.
+     *
+     * @param objectMapper the mapper to configure
+     * @return the same mapper
+     */
+    public static <T extends ObjectMapper> T configure(T objectMapper) {
         objectMapper.registerModule(new JavaTimeModule());
+        FieldFilterConfig.registerFieldFilters(objectMapper);
         return objectMapper;
     }
 }
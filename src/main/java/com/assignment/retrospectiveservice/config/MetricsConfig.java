@@ -0,0 +1,68 @@
+package com.assignment.retrospectiveservice.config;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.HibernateQueryMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Metrics beyond the ones Spring Boot binds on its own (HTTP requests, caches,
+ * the connection pool and Hibernate session statistics), all published on
+ * {@code /actuator/prometheus}.
+ * <p>
+ * Service methods annotated with {@code @Timed} are timed by the
+ * {@link TimedAspect}. Its advice runs inside the caching advice, so cache hits
+ * do not show up in the service timers; they are counted by the cache metrics.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Name of the timer recorded for every {@code RetrospectiveService} method,
+     * tagged with the class and method.
+     */
+    public static final String SERVICE_TIMER = "retrospective.service";
+
+    /**
+     * Counter of added feedback items, tagged with the feedback type.
+     */
+    public static final String FEEDBACK_ADDED = "retrospective.feedback.added";
+
+    /**
+     * Counter of updated feedback items, tagged with the new feedback type.
+     */
+    public static final String FEEDBACK_UPDATED = "retrospective.feedback.updated";
+
+    /**
+     * Distribution of the number of feedback items added per transaction by the
+     * {@code FeedbackWriteCoalescer}.
+     */
+    public static final String FEEDBACK_BATCH_SIZE = "retrospective.feedback.batch.size";
+
+    /**
+     * Counter of attempts to update a feedback item that are retried after losing
+     * to a concurrent update of the same item.
+     */
+    public static final String FEEDBACK_UPDATE_RETRIES = "retrospective.feedback.update.retries";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    /**
+     * Execution counts and times per JPQL query, from the Hibernate statistics
+     * enabled by {@code hibernate.generate_statistics}. The binder only hooks into
+     * the native session factory, which Spring's factory proxy does not implement.
+     */
+    @Bean
+    public HibernateQueryMetrics hibernateQueryMetrics(EntityManagerFactory entityManagerFactory) {
+        return new HibernateQueryMetrics(entityManagerFactory.unwrap(SessionFactoryImplementor.class),
+                "entityManagerFactory", Tags.empty());
+    }
+}
@@ -1,24 +1,56 @@
 package com.assignment.retrospectiveservice.controller;
 
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.assignment.retrospectiveservice.config.BinaryFormatConfig;
+import com.assignment.retrospectiveservice.dto.CursorPageDto;
+import com.assignment.retrospectiveservice.dto.FeedbackItemBatchDto;
 import com.assignment.retrospectiveservice.dto.FeedbackItemDto;
+import com.assignment.retrospectiveservice.dto.FeedbackSearchResultDto;
+import com.assignment.retrospectiveservice.dto.FeedbackStatsDto;
 import com.assignment.retrospectiveservice.dto.RetrospectiveDto;
+import com.assignment.retrospectiveservice.dto.RetrospectiveFields;
+import com.assignment.retrospectiveservice.dto.RetrospectiveSummaryDto;
+import com.assignment.retrospectiveservice.exception.InvalidDateRangeException;
+import com.assignment.retrospectiveservice.exception.InvalidPageRequestException;
+import com.assignment.retrospectiveservice.logging.LogSummaries;
+import com.assignment.retrospectiveservice.repository.RetrospectiveRevision;
+import com.assignment.retrospectiveservice.service.FeedbackItemUpdateRetrier;
+import com.assignment.retrospectiveservice.service.FeedbackSearchService;
+import com.assignment.retrospectiveservice.service.FeedbackWriteCoalescer;
+import com.assignment.retrospectiveservice.service.IdempotentRetrospectiveCreator;
+import com.assignment.retrospectiveservice.service.RenderedRetrospective;
+import com.assignment.retrospectiveservice.service.RenderedRetrospectiveCache;
+import com.assignment.retrospectiveservice.service.RetrospectiveExportService;
 import com.assignment.retrospectiveservice.service.RetrospectiveService;
+import com.assignment.retrospectiveservice.service.RevisedRetrospective;
 
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
@@ -26,48 +58,170 @@ import lombok.extern.slf4j.Slf4j;
 
 @RestController
 @RequestMapping(path = "/retrospectives", produces = { MediaType.APPLICATION_JSON_VALUE,
-                MediaType.APPLICATION_XML_VALUE })
+                MediaType.APPLICATION_XML_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                BinaryFormatConfig.APPLICATION_SMILE_VALUE })
 @Slf4j
 @AllArgsConstructor
 public class RetrospectiveController {
 
+        private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+        private static final List<MediaType> PRODUCIBLE_TYPES = List.of(MediaType.APPLICATION_JSON,
+                        MediaType.APPLICATION_XML, MediaType.APPLICATION_CBOR, BinaryFormatConfig.APPLICATION_SMILE);
+        private static final List<MediaType> EXPORT_TYPES = List.of(MediaType.APPLICATION_NDJSON,
+                        MediaType.APPLICATION_XML);
+
+        /**
+         * An entity tag of an {@code If-None-Match} list, weak or strong, with its
+         * opaque value as the first group, or the wildcard, without a group.
+         */
+        private static final Pattern ENTITY_TAG = Pattern.compile("\\*|(?:W/)?\"([^\"]*)\"");
+
         private RetrospectiveService retrospectiveService;
+        private RetrospectiveExportService retrospectiveExportService;
+        private FeedbackSearchService feedbackSearchService;
+        private LogSummaries logSummaries;
+        private RenderedRetrospectiveCache renderedRetrospectiveCache;
+        private FeedbackWriteCoalescer feedbackWriteCoalescer;
+        private IdempotentRetrospectiveCreator idempotentRetrospectiveCreator;
+        private FeedbackItemUpdateRetrier feedbackItemUpdateRetrier;
 
-        // Endpoint to create a retrospective
-        @PostMapping(consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE })
+        // Endpoint to create a retrospective, at most once per Idempotency-Key if one is sent
+        @PostMapping(consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                        MediaType.APPLICATION_CBOR_VALUE, BinaryFormatConfig.APPLICATION_SMILE_VALUE })
         public ResponseEntity<RetrospectiveDto> createRetrospective(
-                        @Valid @RequestBody RetrospectiveDto retrospectiveDto) {
-                log.info("Creating retrospective: {}", retrospectiveDto);
-                RetrospectiveDto createdRetrospectiveDto = retrospectiveService.createRetrospective(retrospectiveDto);
-                log.info("Retrospective created: {}", createdRetrospectiveDto);
+                        @Valid @RequestBody RetrospectiveDto retrospectiveDto,
+                        @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+                log.debug("Creating retrospective: {}", logSummaries.of(retrospectiveDto));
+                RetrospectiveDto createdRetrospectiveDto = idempotencyKey == null
+                                ? retrospectiveService.createRetrospective(retrospectiveDto)
+                                : idempotentRetrospectiveCreator.createRetrospective(idempotencyKey,
+                                                retrospectiveDto);
+                log.info("Retrospective created: {}", logSummaries.of(createdRetrospectiveDto));
                 return ResponseEntity.status(HttpStatus.CREATED).body(createdRetrospectiveDto);
         }
 
+        // Endpoint to get a single retrospective
+        @GetMapping(path = "/{retrospectiveName}", produces = { MediaType.APPLICATION_JSON_VALUE,
+                        MediaType.APPLICATION_XML_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                        BinaryFormatConfig.APPLICATION_SMILE_VALUE })
+        public ResponseEntity<?> getRetrospective(@PathVariable String retrospectiveName,
+                        @RequestParam(required = false) String fields,
+                        @RequestHeader(name = HttpHeaders.ACCEPT, defaultValue = MediaType.ALL_VALUE) String accept,
+                        @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+                RetrospectiveFields selectedFields = RetrospectiveFields.parse(fields);
+                String variant = variant(accept, selectedFields);
+                // only answers conditional requests; a body is tagged with the revision it was read at
+                RetrospectiveRevision revision = retrospectiveService.getRetrospectiveRevision(retrospectiveName);
+                String eTag = eTag(revision, variant);
+                if (matches(ifNoneMatch, eTag)) {
+                        log.debug("Retrospective '{}' not modified", retrospectiveName);
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT)
+                                        .build();
+                }
+                log.debug("Fetching retrospective '{}' (fields={})", retrospectiveName, selectedFields);
+                if (selectedFields.isAll()) {
+                        MediaType mediaType = negotiate(accept);
+                        RenderedRetrospective rendered = renderedRetrospectiveCache.render(retrospectiveName,
+                                        revision, mediaType, () -> retrospectiveService
+                                                        .getRevisedRetrospective(retrospectiveName, selectedFields));
+                        return ResponseEntity.ok().eTag(eTag(rendered.revision(), variant))
+                                        .varyBy(HttpHeaders.ACCEPT).contentType(mediaType)
+                                        .body(rendered.bodies().get(mediaType));
+                }
+                RevisedRetrospective revisedRetrospective = retrospectiveService
+                                .getRevisedRetrospective(retrospectiveName, selectedFields);
+                return ResponseEntity.ok().eTag(eTag(revisedRetrospective.revision(), variant))
+                                .varyBy(HttpHeaders.ACCEPT)
+                                .body(select(revisedRetrospective.retrospective(), selectedFields));
+        }
+
+        // Endpoint to get up to MAX_PAGE_SIZE retrospectives by name in one request
+        @GetMapping(params = "names", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                        MediaType.APPLICATION_CBOR_VALUE, BinaryFormatConfig.APPLICATION_SMILE_VALUE })
+        public ResponseEntity<?> getRetrospectivesByName(@RequestParam List<String> names,
+                        @RequestHeader(name = HttpHeaders.ACCEPT, defaultValue = MediaType.ALL_VALUE) String accept) {
+                List<String> retrospectiveNames = names.stream().distinct().toList();
+                if (retrospectiveNames.size() > RetrospectiveService.MAX_PAGE_SIZE) {
+                        throw new InvalidPageRequestException("At most " + RetrospectiveService.MAX_PAGE_SIZE
+                                        + " retrospectives can be fetched by name, not " + retrospectiveNames.size());
+                }
+                log.debug("Fetching {} retrospectives by name", retrospectiveNames.size());
+                MediaType mediaType = negotiate(accept);
+                if (!renderedRetrospectiveCache.canConcatenate(mediaType)) {
+                        return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).contentType(mediaType)
+                                        .body(retrospectiveNames.stream()
+                                                        .map(retrospectiveName -> retrospectiveService
+                                                                        .getRevisedRetrospective(retrospectiveName,
+                                                                                        RetrospectiveFields.ALL))
+                                                        .map(RevisedRetrospective::retrospective).toList());
+                }
+                List<byte[]> bodies = retrospectiveNames.stream()
+                                .map(retrospectiveName -> renderedRetrospectiveCache.render(retrospectiveName,
+                                                retrospectiveService.getRetrospectiveRevision(retrospectiveName),
+                                                mediaType, () -> retrospectiveService.getRevisedRetrospective(
+                                                                retrospectiveName, RetrospectiveFields.ALL))
+                                                .bodies().get(mediaType))
+                                .toList();
+                return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).contentType(mediaType)
+                                .body(renderedRetrospectiveCache.concatenate(bodies, mediaType));
+        }
+
+        // Endpoint to get the feedback counts of a retrospective, per type and per participant
+        @GetMapping(path = "/{retrospectiveName}/stats", produces = { MediaType.APPLICATION_JSON_VALUE,
+                        MediaType.APPLICATION_XML_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                        BinaryFormatConfig.APPLICATION_SMILE_VALUE })
+        public ResponseEntity<FeedbackStatsDto> getFeedbackStats(@PathVariable String retrospectiveName) {
+                log.debug("Fetching feedback statistics of retrospective '{}'", retrospectiveName);
+                return ResponseEntity.ok(retrospectiveService.getFeedbackStats(retrospectiveName));
+        }
+
         // Endpoint to add feedback item to a retrospective
         @PostMapping(path = "/{retrospectiveName}/feedback", consumes = { MediaType.APPLICATION_JSON_VALUE,
-                        MediaType.APPLICATION_XML_VALUE })
-        public ResponseEntity<RetrospectiveDto> addFeedbackItem(@PathVariable String retrospectiveName,
+                        MediaType.APPLICATION_XML_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                        BinaryFormatConfig.APPLICATION_SMILE_VALUE })
+        public ResponseEntity<FeedbackItemDto> addFeedbackItem(@PathVariable String retrospectiveName,
                         @Valid @RequestBody FeedbackItemDto feedbackItemDto) {
-                log.info("Adding feedback item to retrospective '{}': {}", retrospectiveName, feedbackItemDto);
-                RetrospectiveDto updatedRetrospectiveDto = retrospectiveService.addFeedbackItem(retrospectiveName,
+                log.debug("Adding feedback item to retrospective '{}': {}", retrospectiveName,
+                                logSummaries.of(feedbackItemDto));
+                FeedbackItemDto createdFeedbackItemDto = feedbackWriteCoalescer.addFeedbackItem(retrospectiveName,
                                 feedbackItemDto);
-                log.info("Feedback item added to retrospective '{}': {}", retrospectiveName, updatedRetrospectiveDto);
-                return ResponseEntity.status(HttpStatus.CREATED).body(updatedRetrospectiveDto);
+                log.info("Feedback item added to retrospective '{}': {}", retrospectiveName,
+                                logSummaries.of(createdFeedbackItemDto));
+                URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                                .path("/retrospectives/{retrospectiveName}/feedback/{feedbackItemId}")
+                                .buildAndExpand(retrospectiveName, createdFeedbackItemDto.getId()).toUri();
+                return ResponseEntity.created(location).body(createdFeedbackItemDto);
+        }
+
+        // Endpoint to add several feedback items to a retrospective at once
+        @PostMapping(path = "/{retrospectiveName}/feedback/batch", consumes = { MediaType.APPLICATION_JSON_VALUE,
+                        MediaType.APPLICATION_XML_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                        BinaryFormatConfig.APPLICATION_SMILE_VALUE })
+        public ResponseEntity<FeedbackItemBatchDto> addFeedbackItems(@PathVariable String retrospectiveName,
+                        @Valid @RequestBody FeedbackItemBatchDto feedbackItemBatchDto) {
+                log.debug("Adding {} feedback items to retrospective '{}'",
+                                feedbackItemBatchDto.getFeedbackItems().size(), retrospectiveName);
+                List<FeedbackItemDto> createdFeedbackItemDtos = retrospectiveService
+                                .addFeedbackItems(retrospectiveName, feedbackItemBatchDto.getFeedbackItems());
+                log.info("{} feedback items added to retrospective '{}'", createdFeedbackItemDtos.size(),
+                                retrospectiveName);
+                return ResponseEntity.status(HttpStatus.CREATED)
+                                .body(new FeedbackItemBatchDto(createdFeedbackItemDtos));
         }
 
-        // Endpoint to update feedback item in a retrospective
+        // Endpoint to update feedback item in a retrospective, refused with 409 if it changed since the sent version
         @PutMapping("/{retrospectiveName}/feedback/{feedbackItemId}")
-        public ResponseEntity<RetrospectiveDto> updateFeedbackItem(@PathVariable String retrospectiveName,
+        public ResponseEntity<FeedbackItemDto> updateFeedbackItem(@PathVariable String retrospectiveName,
                         @PathVariable String feedbackItemId, @Valid @RequestBody FeedbackItemDto feedbackItemDto) {
-                log.info("Updating feedback item '{}' for retrospective '{}': {}", feedbackItemId, retrospectiveName,
-                                feedbackItemDto);
-                RetrospectiveDto updatedRetrospectiveDto = retrospectiveService.updateFeedbackItem(retrospectiveName,
-                                feedbackItemId, feedbackItemDto);
-                if (updatedRetrospectiveDto != null) {
+                log.debug("Updating feedback item '{}' for retrospective '{}': {}", feedbackItemId,
+                                retrospectiveName, logSummaries.of(feedbackItemDto));
+                FeedbackItemDto updatedFeedbackItemDto = feedbackItemUpdateRetrier.updateFeedbackItem(
+                                retrospectiveName, feedbackItemId, feedbackItemDto);
+                if (updatedFeedbackItemDto != null) {
                         log.info("Feedback item '{}' updated for retrospective '{}': {}", feedbackItemId,
-                                        retrospectiveName,
-                                        updatedRetrospectiveDto);
-                        return ResponseEntity.ok(updatedRetrospectiveDto);
+                                        retrospectiveName, logSummaries.of(updatedFeedbackItemDto));
+                        return ResponseEntity.ok(updatedFeedbackItemDto);
                 } else {
                         log.error("Failed to update feedback item '{}' for retrospective '{}'", feedbackItemId,
                                         retrospectiveName);
@@ -76,26 +230,285 @@ public class RetrospectiveController {
         }
 
         // Endpoint to get all retrospectives with pagination
-        @GetMapping(produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE })
-        public ResponseEntity<Page<RetrospectiveDto>> getAllRetrospectives(@RequestParam(defaultValue = "0") int page,
-                        @RequestParam(defaultValue = "10") int pageSize) {
-                log.debug("Fetching all retrospectives with pagination (page={}, pageSize={})", page, pageSize);
-                Page<RetrospectiveDto> retrospectivesPage = retrospectiveService.getAllRetrospectives(page, pageSize);
+        @GetMapping(produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                        MediaType.APPLICATION_CBOR_VALUE, BinaryFormatConfig.APPLICATION_SMILE_VALUE })
+        public ResponseEntity<MappingJacksonValue> getAllRetrospectives(@RequestParam(defaultValue = "0") int page,
+                        @RequestParam(defaultValue = "10") int pageSize,
+                        @RequestParam(required = false) String fields,
+                        @RequestHeader(name = HttpHeaders.ACCEPT, defaultValue = MediaType.ALL_VALUE) String accept,
+                        @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+                RetrospectiveFields selectedFields = RetrospectiveFields.parse(fields);
+                log.debug("Fetching all retrospectives with pagination (page={}, pageSize={}, fields={})", page,
+                                pageSize, selectedFields);
+                Page<RetrospectiveRevision> revisions = retrospectiveService.getRetrospectiveRevisions(page, pageSize);
+                String eTag = pageETag(revisions, variant(accept, selectedFields));
+                if (matches(ifNoneMatch, eTag)) {
+                        log.debug("Retrospectives page {} not modified", page);
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT)
+                                        .build();
+                }
+                Page<RetrospectiveDto> retrospectivesPage = retrospectiveService.getRetrospectives(revisions,
+                                selectedFields);
                 log.debug("Retrieved {} retrospectives", retrospectivesPage.getTotalElements());
-                return ResponseEntity.ok(retrospectivesPage);
+                return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT)
+                                .body(select(retrospectivesPage, selectedFields));
         }
 
-        // Endpoint to search retrospectives by date
-        @GetMapping(path = "/search", produces = { MediaType.APPLICATION_JSON_VALUE,
-                        MediaType.APPLICATION_XML_VALUE })
-        public ResponseEntity<Page<RetrospectiveDto>> searchRetrospectivesByDate(
-                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+        // Endpoint to get summaries of all retrospectives with pagination
+        @GetMapping(params = "view=summary", produces = { MediaType.APPLICATION_JSON_VALUE,
+                        MediaType.APPLICATION_XML_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                        BinaryFormatConfig.APPLICATION_SMILE_VALUE })
+        public ResponseEntity<Page<RetrospectiveSummaryDto>> getRetrospectiveSummaries(
                         @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int pageSize) {
-                log.info("Searching retrospectives by date (date={}, page={}, pageSize={})", date, page, pageSize);
-                Page<RetrospectiveDto> retrospectivesPage = retrospectiveService.searchRetrospectivesByDate(date, page,
+                log.debug("Fetching retrospective summaries with pagination (page={}, pageSize={})", page,
                                 pageSize);
-                log.info("Retrieved {} retrospectives for date {}", retrospectivesPage.getTotalElements(), date);
-                return ResponseEntity.ok(retrospectivesPage);
+                Page<RetrospectiveSummaryDto> summariesPage = retrospectiveService.getRetrospectiveSummaries(page,
+                                pageSize);
+                log.debug("Retrieved {} retrospective summaries", summariesPage.getTotalElements());
+                return ResponseEntity.ok(summariesPage);
+        }
+
+        // Endpoint to get all retrospectives with cursor pagination
+        @GetMapping(params = "cursor", produces = { MediaType.APPLICATION_JSON_VALUE,
+                        MediaType.APPLICATION_XML_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                        BinaryFormatConfig.APPLICATION_SMILE_VALUE })
+        public ResponseEntity<MappingJacksonValue> scrollAllRetrospectives(
+                        @RequestParam String cursor, @RequestParam(defaultValue = "10") int pageSize,
+                        @RequestParam(defaultValue = "false") boolean includeTotal,
+                        @RequestParam(required = false) String fields) {
+                RetrospectiveFields selectedFields = RetrospectiveFields.parse(fields);
+                log.debug("Fetching all retrospectives with cursor pagination (pageSize={}, fields={})", pageSize,
+                                selectedFields);
+                CursorPageDto<RetrospectiveDto> retrospectivesPage = retrospectiveService
+                                .scrollAllRetrospectives(cursor, pageSize, includeTotal, selectedFields);
+                log.debug("Retrieved {} retrospectives", retrospectivesPage.getContent().size());
+                return ResponseEntity.ok(select(retrospectivesPage, selectedFields));
+        }
+
+        // Endpoints to refuse cursor, names and view=summary together, each of which selects its own listing.
+        // They are more specific than the listings they combine, which would otherwise match equally.
+        @GetMapping(path = { "", "/search" }, params = { "cursor", "view=summary" })
+        public ResponseEntity<Void> rejectCursorWithSummaries() {
+                throw new InvalidPageRequestException("A cursor cannot be combined with view=summary");
+        }
+
+        @GetMapping(params = { "names", "cursor", "view!=summary" })
+        public ResponseEntity<Void> rejectNamesWithCursor() {
+                throw new InvalidPageRequestException("Retrospectives fetched by name cannot be paged by a cursor");
+        }
+
+        @GetMapping(params = { "names", "view=summary", "!cursor" })
+        public ResponseEntity<Void> rejectNamesWithSummaries() {
+                throw new InvalidPageRequestException("Retrospectives fetched by name cannot be combined with "
+                                + "view=summary");
+        }
+
+        // Endpoint to export all retrospectives as streamed NDJSON, or as XML when asked for
+        @GetMapping(path = "/export", produces = { MediaType.APPLICATION_NDJSON_VALUE,
+                        MediaType.APPLICATION_XML_VALUE })
+        public ResponseEntity<StreamingResponseBody> exportRetrospectives(
+                        @RequestHeader(name = HttpHeaders.ACCEPT, defaultValue = MediaType.ALL_VALUE) String accept) {
+                MediaType mediaType = negotiate(accept, EXPORT_TYPES);
+                boolean xml = MediaType.APPLICATION_XML.equals(mediaType);
+                log.info("Exporting all retrospectives as {}", xml ? "XML" : "NDJSON");
+                StreamingResponseBody body = xml ? retrospectiveExportService::writeXml
+                                : retrospectiveExportService::writeNdjson;
+                return ResponseEntity.ok().contentType(mediaType).body(body);
+        }
+
+        // Endpoint to search retrospectives by date or date range
+        @GetMapping(path = "/search", produces = { MediaType.APPLICATION_JSON_VALUE,
+                        MediaType.APPLICATION_XML_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                        BinaryFormatConfig.APPLICATION_SMILE_VALUE })
+        public ResponseEntity<MappingJacksonValue> searchRetrospectivesByDate(
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                        @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int pageSize,
+                        @RequestParam(required = false) String fields) {
+                DateRange range = DateRange.of(date, from, to);
+                RetrospectiveFields selectedFields = RetrospectiveFields.parse(fields);
+                log.info("Searching retrospectives by date range (from={}, to={}, page={}, pageSize={})", range.from(),
+                                range.to(), page, pageSize);
+                Page<RetrospectiveDto> retrospectivesPage = retrospectiveService.searchRetrospectivesByDateRange(
+                                range.from(), range.to(), page, pageSize, selectedFields);
+                log.info("Retrieved {} retrospectives for dates {} to {}", retrospectivesPage.getTotalElements(),
+                                range.from(), range.to());
+                return ResponseEntity.ok(select(retrospectivesPage, selectedFields));
+        }
+
+        // Endpoint to search retrospective summaries by date or date range
+        @GetMapping(path = "/search", params = "view=summary", produces = { MediaType.APPLICATION_JSON_VALUE,
+                        MediaType.APPLICATION_XML_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                        BinaryFormatConfig.APPLICATION_SMILE_VALUE })
+        public ResponseEntity<Page<RetrospectiveSummaryDto>> searchRetrospectiveSummariesByDate(
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                        @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int pageSize) {
+                DateRange range = DateRange.of(date, from, to);
+                log.info("Searching retrospective summaries by date range (from={}, to={}, page={}, pageSize={})",
+                                range.from(), range.to(), page, pageSize);
+                Page<RetrospectiveSummaryDto> summariesPage = retrospectiveService
+                                .searchRetrospectiveSummariesByDateRange(range.from(), range.to(), page, pageSize);
+                log.info("Retrieved {} retrospective summaries for dates {} to {}", summariesPage.getTotalElements(),
+                                range.from(), range.to());
+                return ResponseEntity.ok(summariesPage);
+        }
+
+        // Endpoint to search retrospectives by date or date range with cursor pagination
+        @GetMapping(path = "/search", params = "cursor", produces = { MediaType.APPLICATION_JSON_VALUE,
+                        MediaType.APPLICATION_XML_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                        BinaryFormatConfig.APPLICATION_SMILE_VALUE })
+        public ResponseEntity<MappingJacksonValue> scrollRetrospectivesByDate(
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                        @RequestParam String cursor, @RequestParam(defaultValue = "10") int pageSize,
+                        @RequestParam(defaultValue = "false") boolean includeTotal,
+                        @RequestParam(required = false) String fields) {
+                DateRange range = DateRange.of(date, from, to);
+                RetrospectiveFields selectedFields = RetrospectiveFields.parse(fields);
+                log.info("Searching retrospectives by date range with cursor pagination (from={}, to={}, pageSize={})",
+                                range.from(), range.to(), pageSize);
+                CursorPageDto<RetrospectiveDto> retrospectivesPage = retrospectiveService
+                                .scrollRetrospectivesByDateRange(range.from(), range.to(), cursor, pageSize,
+                                                includeTotal, selectedFields);
+                log.info("Retrieved {} retrospectives for dates {} to {}", retrospectivesPage.getContent().size(),
+                                range.from(), range.to());
+                return ResponseEntity.ok(select(retrospectivesPage, selectedFields));
+        }
+
+        // Endpoint to search feedback items by the words in their name and body, best matches first
+        @GetMapping(path = "/search/feedback", produces = { MediaType.APPLICATION_JSON_VALUE,
+                        MediaType.APPLICATION_XML_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                        BinaryFormatConfig.APPLICATION_SMILE_VALUE })
+        public ResponseEntity<Page<FeedbackSearchResultDto>> searchFeedback(@RequestParam String q,
+                        @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int pageSize) {
+                log.debug("Searching feedback (page={}, pageSize={})", page, pageSize);
+                Page<FeedbackSearchResultDto> resultsPage = feedbackSearchService.searchFeedback(q, page, pageSize);
+                log.debug("Found {} feedback items", resultsPage.getTotalElements());
+                return ResponseEntity.ok(resultsPage);
+        }
+
+        /**
+         * Subtype of the representation the request will get, such as {@code json}
+         * or {@code cbor}, so that the representations of a resource never share a
+         * strong ETag.
+         */
+        private static String representation(String accept) {
+                return negotiate(accept).getSubtype();
+        }
+
+        /**
+         * Media type of the representation the request will get. Follows the order of
+         * preference of the Accept header, and of the {@code produces} declarations
+         * among equally preferred types.
+         */
+        private static MediaType negotiate(String accept) {
+                return negotiate(accept, PRODUCIBLE_TYPES);
+        }
+
+        /**
+         * Media type among the given producible types, the first being the default,
+         * that the request prefers by quality value.
+         */
+        private static MediaType negotiate(String accept, List<MediaType> producibleTypes) {
+                List<MediaType> acceptedTypes = new ArrayList<>(MediaType.parseMediaTypes(accept));
+                acceptedTypes.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+                for (MediaType acceptedType : acceptedTypes) {
+                        for (MediaType producibleType : producibleTypes) {
+                                if (acceptedType.includes(producibleType)) {
+                                        return producibleType;
+                                }
+                        }
+                }
+                return producibleTypes.get(0);
+        }
+
+        /**
+         * Representation subtype plus the field selection, when there is one, so that
+         * every variant of a resource has its own ETag.
+         */
+        private static String variant(String accept, RetrospectiveFields fields) {
+                return fields.isAll() ? representation(accept) : representation(accept) + ";" + fields;
+        }
+
+        /**
+         * Wraps a response body with the Jackson filters of a field selection, which
+         * both the JSON and the XML converter apply.
+         */
+        private static MappingJacksonValue select(Object body, RetrospectiveFields fields) {
+                MappingJacksonValue value = new MappingJacksonValue(body);
+                value.setFilters(fields.filters());
+                return value;
+        }
+
+        /**
+         * ETag of one variant of a retrospective at a revision.
+         */
+        private static String eTag(RetrospectiveRevision revision, String variant) {
+                return revision.id() + "-" + revision.revision() + "-" + variant;
+        }
+
+        /**
+         * Whether an {@code If-None-Match} header names the given ETag, weakly or
+         * strongly, or any ETag at all. Entity tags are read as quoted strings, since
+         * the tags of field selections contain commas themselves.
+         */
+        private static boolean matches(String ifNoneMatch, String eTag) {
+                if (ifNoneMatch == null) {
+                        return false;
+                }
+                Matcher entityTags = ENTITY_TAG.matcher(ifNoneMatch);
+                while (entityTags.find()) {
+                        if (entityTags.group(1) == null || entityTags.group(1).equals(eTag)) {
+                                return true;
+                        }
+                }
+                return false;
+        }
+
+        /**
+         * ETag of a page of retrospectives: a digest of the position of the page, the
+         * total number of retrospectives and the ids and revisions on the page.
+         */
+        private static String pageETag(Page<RetrospectiveRevision> revisions, String variant) {
+                StringBuilder state = new StringBuilder().append(revisions.getNumber()).append(',')
+                                .append(revisions.getSize()).append(',').append(revisions.getTotalElements());
+                revisions.forEach(revision -> state.append(';').append(revision.id()).append(':')
+                                .append(revision.revision()));
+                return DigestUtils.md5DigestAsHex(state.toString().getBytes(StandardCharsets.UTF_8)) + "-"
+                                + variant;
+        }
+
+        /**
+         * Inclusive date range of a search, given either as a single {@code date} or
+         * as {@code from} and/or {@code to}. An open end extends to the earliest or
+         * latest supported date.
+         */
+        private record DateRange(LocalDate from, LocalDate to) {
+
+                private static final LocalDate EARLIEST = LocalDate.of(1, 1, 1);
+                private static final LocalDate LATEST = LocalDate.of(9999, 12, 31);
+
+                static DateRange of(LocalDate date, LocalDate from, LocalDate to) {
+                        if (date != null) {
+                                if (from != null || to != null) {
+                                        throw new InvalidDateRangeException(
+                                                        "Use either 'date' or 'from'/'to', not both");
+                                }
+                                return new DateRange(date, date);
+                        }
+                        if (from == null && to == null) {
+                                throw new InvalidDateRangeException("One of 'date', 'from' or 'to' is required");
+                        }
+                        DateRange range = new DateRange(from != null ? from : EARLIEST, to != null ? to : LATEST);
+                        if (range.from().isAfter(range.to())) {
+                                throw new InvalidDateRangeException("'from' must not be after 'to'");
+                        }
+                        return range;
+                }
         }
 
 }
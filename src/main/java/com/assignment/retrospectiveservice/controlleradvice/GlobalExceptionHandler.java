@@ -9,7 +9,14 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 import com.assignment.retrospectiveservice.exception.RetrospectiveAlreadyExistsException;
 import com.assignment.retrospectiveservice.exception.RetrospectiveNotFoundException;
 import com.assignment.retrospectiveservice.exception.ErrorResponse;
+import com.assignment.retrospectiveservice.exception.FeedbackItemConflictException;
 import com.assignment.retrospectiveservice.exception.FeedbackItemNotFoundException;
+import com.assignment.retrospectiveservice.exception.FeedbackWriteTimeoutException;
+import com.assignment.retrospectiveservice.exception.IdempotencyKeyReusedException;
+import com.assignment.retrospectiveservice.exception.InvalidCursorException;
+import com.assignment.retrospectiveservice.exception.InvalidDateRangeException;
+import com.assignment.retrospectiveservice.exception.InvalidFieldsException;
+import com.assignment.retrospectiveservice.exception.InvalidPageRequestException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
@@ -21,6 +28,18 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    @ExceptionHandler({ FeedbackItemConflictException.class })
+    public ResponseEntity<ErrorResponse> handleFeedbackItemConflictException(FeedbackItemConflictException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.CONFLICT.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    @ExceptionHandler({ IdempotencyKeyReusedException.class })
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyReusedException(IdempotencyKeyReusedException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.UNPROCESSABLE_ENTITY.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(errorResponse);
+    }
+
     @ExceptionHandler({ FeedbackItemNotFoundException.class })
     public ResponseEntity<ErrorResponse> handleFeedbackItemNotFoundException(FeedbackItemNotFoundException ex) {
         ErrorResponse errorResponse = new ErrorResponse(HttpStatus.NOT_FOUND.value(), ex.getMessage());
@@ -33,6 +52,36 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    @ExceptionHandler({ InvalidCursorException.class })
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(InvalidCursorException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler({ InvalidDateRangeException.class })
+    public ResponseEntity<ErrorResponse> handleInvalidDateRangeException(InvalidDateRangeException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler({ InvalidFieldsException.class })
+    public ResponseEntity<ErrorResponse> handleInvalidFieldsException(InvalidFieldsException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler({ InvalidPageRequestException.class })
+    public ResponseEntity<ErrorResponse> handleInvalidPageRequestException(InvalidPageRequestException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler({ FeedbackWriteTimeoutException.class })
+    public ResponseEntity<ErrorResponse> handleFeedbackWriteTimeoutException(FeedbackWriteTimeoutException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
         ErrorResponse errorResponse = new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR.value(),
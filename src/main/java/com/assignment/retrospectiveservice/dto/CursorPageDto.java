@@ -0,0 +1,33 @@
+package com.assignment.retrospectiveservice.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response envelope for cursor (keyset) pagination.
+ *
+ * @param <T> the type of the page content
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageDto<T> {
+    private List<T> content;
+
+    /**
+     * Opaque token to pass as {@code cursor} to fetch the next page, or null if
+     * this is the last page.
+     */
+    private String nextCursor;
+
+    /**
+     * Total number of matching elements; only present when explicitly requested.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalElements;
+}
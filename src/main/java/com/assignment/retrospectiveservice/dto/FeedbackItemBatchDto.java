@@ -0,0 +1,24 @@
+package com.assignment.retrospectiveservice.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data transfer object for submitting several feedback items at once. In a
+ * response, the items carry their generated ids, in request order.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FeedbackItemBatchDto {
+    @NotEmpty(message = "At least one feedback item is required")
+    @Size(max = 500, message = "At most 500 feedback items can be submitted at once")
+    @Valid
+    private List<FeedbackItemDto> feedbackItems;
+}
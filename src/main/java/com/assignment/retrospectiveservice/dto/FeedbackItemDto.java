@@ -1,6 +1,10 @@
 package com.assignment.retrospectiveservice.dto;
 
+import java.util.UUID;
+
 import com.assignment.retrospectiveservice.model.FeedbackType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -8,6 +12,7 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 /**
  * Data transfer object for FeedbackItem.
@@ -16,14 +21,37 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 public class FeedbackItemDto {
+    /**
+     * Identifier assigned by the service; ignored when sent by clients.
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private UUID id;
+
     @NotBlank(message = "Name of the person providing feedback is required")
     @Size(min = 1, max = 50, message = "Name must be between 1 and 50 characters")
     private String name;
 
     @Size(min = 1, max = 1000, message = "Body length must not exceed 1000 characters")
+    @ToString.Exclude
     private String body;
 
     @NotNull(message = "Feedback type is required")
     private FeedbackType feedbackType;
 
+    /**
+     * Version of the feedback item, advanced by every update. Clients send back
+     * the version they edited so that an update over someone else's change is
+     * refused instead of overwriting it; without it, the update applies to the
+     * current version.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long version;
+
+    public FeedbackItemDto(String name, String body, FeedbackType feedbackType) {
+        this(null, name, body, feedbackType);
+    }
+
+    public FeedbackItemDto(UUID id, String name, String body, FeedbackType feedbackType) {
+        this(id, name, body, feedbackType, null);
+    }
 }
@@ -0,0 +1,20 @@
+package com.assignment.retrospectiveservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A feedback item matching a search, with the retrospective it was given in
+ * and its relevance score.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FeedbackSearchResultDto {
+    private String retrospectiveName;
+
+    private FeedbackItemDto feedbackItem;
+
+    private double score;
+}
@@ -0,0 +1,26 @@
+package com.assignment.retrospectiveservice.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import com.assignment.retrospectiveservice.model.FeedbackType;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Feedback counts of a retrospective, per type and per participant.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FeedbackStatsDto {
+    private String name;
+
+    private long feedbackItemCount;
+
+    private Map<FeedbackType, Long> feedbackCounts;
+
+    private List<ParticipantFeedbackStatsDto> participants;
+}
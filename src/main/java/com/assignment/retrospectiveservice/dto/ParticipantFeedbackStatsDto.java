@@ -0,0 +1,23 @@
+package com.assignment.retrospectiveservice.dto;
+
+import java.util.Map;
+
+import com.assignment.retrospectiveservice.model.FeedbackType;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Feedback counts of one participant of a retrospective, per type.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ParticipantFeedbackStatsDto {
+    private String name;
+
+    private long feedbackItemCount;
+
+    private Map<FeedbackType, Long> feedbackCounts;
+}
@@ -10,6 +10,7 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 /**
  * Data transfer object for Retrospective.
@@ -32,5 +33,6 @@ public class RetrospectiveDto {
     private List<String> participants;
 
     @Valid
+    @ToString.Exclude
     private List<FeedbackItemDto> feedbackItems;
 }
@@ -0,0 +1,172 @@
+package com.assignment.retrospectiveservice.dto;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.util.StringUtils;
+
+import com.assignment.retrospectiveservice.exception.InvalidFieldsException;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+/**
+ * Fields of {@link RetrospectiveDto} selected with the {@code fields} request
+ * parameter, as a comma separated list such as
+ * {@code name,date,feedbackItems.feedbackType}. A {@code feedbackItems.}
+ * prefix selects fields of the nested {@link FeedbackItemDto}s; naming
+ * {@code feedbackItems} alone selects all of them.
+ * <p>
+ * The selection decides both which collections are loaded from the database
+ * and, through the Jackson filters returned by {@link #filters()}, which
+ * properties are written.
+ */
+public final class RetrospectiveFields {
+
+    /**
+     * Id of the Jackson filter applied to {@link RetrospectiveDto}.
+     */
+    public static final String RETROSPECTIVE_FILTER = "retrospectiveFields";
+
+    /**
+     * Id of the Jackson filter applied to {@link FeedbackItemDto}.
+     */
+    public static final String FEEDBACK_ITEM_FILTER = "feedbackItemFields";
+
+    public static final String PARTICIPANTS = "participants";
+    public static final String FEEDBACK_ITEMS = "feedbackItems";
+
+    private static final Set<String> RETROSPECTIVE_PROPERTIES = properties(RetrospectiveDto.class);
+    private static final Set<String> FEEDBACK_ITEM_PROPERTIES = properties(FeedbackItemDto.class);
+
+    /**
+     * Every field, as returned when no selection is given.
+     */
+    public static final RetrospectiveFields ALL = new RetrospectiveFields(RETROSPECTIVE_PROPERTIES,
+            FEEDBACK_ITEM_PROPERTIES);
+
+    private final Set<String> retrospectiveFields;
+    private final Set<String> feedbackItemFields;
+
+    private RetrospectiveFields(Set<String> retrospectiveFields, Set<String> feedbackItemFields) {
+        this.retrospectiveFields = retrospectiveFields;
+        this.feedbackItemFields = feedbackItemFields;
+    }
+
+    /**
+     * Parses a {@code fields} request parameter.
+     *
+     * @param fields the comma separated field names, or null or empty for all
+     *               fields
+     * @return the selected fields
+     * @throws InvalidFieldsException If a field is unknown or none is selected.
+     */
+    public static RetrospectiveFields parse(String fields) {
+        if (!StringUtils.hasText(fields)) {
+            return ALL;
+        }
+        Set<String> retrospectiveFields = new TreeSet<>();
+        Set<String> feedbackItemFields = new TreeSet<>();
+        boolean allFeedbackItemFields = false;
+        for (String field : StringUtils.commaDelimitedListToSet(fields)) {
+            field = field.trim();
+            if (field.isEmpty()) {
+                continue;
+            }
+            int dot = field.indexOf('.');
+            if (dot < 0) {
+                requireKnown(field, RETROSPECTIVE_PROPERTIES);
+                retrospectiveFields.add(field);
+                allFeedbackItemFields |= field.equals(FEEDBACK_ITEMS);
+            } else if (field.substring(0, dot).equals(FEEDBACK_ITEMS)) {
+                String feedbackItemField = field.substring(dot + 1);
+                requireKnown(feedbackItemField, FEEDBACK_ITEM_PROPERTIES);
+                retrospectiveFields.add(FEEDBACK_ITEMS);
+                feedbackItemFields.add(feedbackItemField);
+            } else {
+                throw new InvalidFieldsException("Unknown field: " + field);
+            }
+        }
+        if (retrospectiveFields.isEmpty()) {
+            throw new InvalidFieldsException("At least one field must be selected");
+        }
+        if (retrospectiveFields.equals(RETROSPECTIVE_PROPERTIES)
+                && (allFeedbackItemFields || feedbackItemFields.equals(FEEDBACK_ITEM_PROPERTIES))) {
+            return ALL;
+        }
+        return new RetrospectiveFields(Collections.unmodifiableSet(retrospectiveFields),
+                allFeedbackItemFields ? FEEDBACK_ITEM_PROPERTIES : Collections.unmodifiableSet(feedbackItemFields));
+    }
+
+    /**
+     * Whether a field of {@link RetrospectiveDto} is selected.
+     *
+     * @param field the name of the field
+     * @return true if the field is selected
+     */
+    public boolean includes(String field) {
+        return retrospectiveFields.contains(field);
+    }
+
+    /**
+     * Whether every field is selected.
+     *
+     * @return true if nothing is left out
+     */
+    public boolean isAll() {
+        return this == ALL;
+    }
+
+    /**
+     * Jackson filters that write only the selected properties, for a
+     * {@code MappingJacksonValue} or as the default filters of an object mapper.
+     *
+     * @return the filters of both DTOs
+     */
+    public FilterProvider filters() {
+        return new SimpleFilterProvider()
+                .addFilter(RETROSPECTIVE_FILTER, filter(retrospectiveFields, RETROSPECTIVE_PROPERTIES))
+                .addFilter(FEEDBACK_ITEM_FILTER, filter(feedbackItemFields, FEEDBACK_ITEM_PROPERTIES));
+    }
+
+    /**
+     * The selection in canonical form: sorted, with nested fields prefixed by
+     * {@code feedbackItems.}, or {@code *} for all fields.
+     */
+    @Override
+    public String toString() {
+        if (isAll()) {
+            return "*";
+        }
+        return retrospectiveFields.stream()
+                .flatMap(field -> !field.equals(FEEDBACK_ITEMS) ? Stream.of(field)
+                        : feedbackItemFields.stream().sorted()
+                                .map(feedbackItemField -> FEEDBACK_ITEMS + "." + feedbackItemField))
+                .collect(Collectors.joining(","));
+    }
+
+    private static PropertyFilter filter(Set<String> fields, Set<String> properties) {
+        return fields == properties ? SimpleBeanPropertyFilter.serializeAll()
+                : SimpleBeanPropertyFilter.filterOutAllExcept(fields);
+    }
+
+    private static void requireKnown(String field, Set<String> properties) {
+        if (!properties.contains(field)) {
+            throw new InvalidFieldsException("Unknown field: " + field);
+        }
+    }
+
+    private static Set<String> properties(Class<?> dtoClass) {
+        return Arrays.stream(dtoClass.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .map(Field::getName)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,49 @@
+package com.assignment.retrospectiveservice.dto;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.assignment.retrospectiveservice.model.FeedbackType;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lightweight view of a retrospective for listings: no participant names and no
+ * feedback bodies, only counts.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RetrospectiveSummaryDto {
+    private String name;
+
+    private String summary;
+
+    private LocalDate date;
+
+    private long participantCount;
+
+    private long feedbackItemCount;
+
+    private Map<FeedbackType, Long> feedbackCounts;
+
+    /**
+     * Constructor used by the summary projection queries of the repository.
+     */
+    public RetrospectiveSummaryDto(String name, String summary, LocalDate date, Integer participantCount,
+            Long positiveCount, Long negativeCount, Long ideaCount, Long praiseCount) {
+        this.name = name;
+        this.summary = summary;
+        this.date = date;
+        this.participantCount = participantCount;
+        this.feedbackCounts = new EnumMap<>(FeedbackType.class);
+        this.feedbackCounts.put(FeedbackType.POSITIVE, positiveCount);
+        this.feedbackCounts.put(FeedbackType.NEGATIVE, negativeCount);
+        this.feedbackCounts.put(FeedbackType.IDEA, ideaCount);
+        this.feedbackCounts.put(FeedbackType.PRAISE, praiseCount);
+        this.feedbackItemCount = positiveCount + negativeCount + ideaCount + praiseCount;
+    }
+}
@@ -0,0 +1,17 @@
+package com.assignment.retrospectiveservice.exception;
+
+/**
+ * Exception thrown when a feedback item cannot be updated because it was
+ * changed concurrently.
+ */
+public class FeedbackItemConflictException extends RuntimeException {
+
+    /**
+     * Constructs a FeedbackItemConflictException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public FeedbackItemConflictException(String message) {
+        super(message);
+    }
+}
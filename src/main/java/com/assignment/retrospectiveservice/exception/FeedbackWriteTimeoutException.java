@@ -0,0 +1,17 @@
+package com.assignment.retrospectiveservice.exception;
+
+/**
+ * Exception thrown when a feedback item could not be added in time and was
+ * withdrawn, so that the request can safely be sent again.
+ */
+public class FeedbackWriteTimeoutException extends RuntimeException {
+
+    /**
+     * Constructs a FeedbackWriteTimeoutException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public FeedbackWriteTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,20 @@
+package com.assignment.retrospectiveservice.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a pagination cursor cannot be decoded.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCursorException extends RuntimeException {
+
+    /**
+     * Constructs an InvalidCursorException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package com.assignment.retrospectiveservice.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when the date criteria of a search are missing or
+ * inconsistent.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidDateRangeException extends RuntimeException {
+
+    /**
+     * Constructs an InvalidDateRangeException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public InvalidDateRangeException(String message) {
+        super(message);
+    }
+}
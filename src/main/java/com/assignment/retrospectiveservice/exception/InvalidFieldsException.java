@@ -0,0 +1,20 @@
+package com.assignment.retrospectiveservice.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a {@code fields} selection names unknown fields.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidFieldsException extends RuntimeException {
+
+    /**
+     * Constructs an InvalidFieldsException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public InvalidFieldsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.assignment.retrospectiveservice.exception;
+
+/**
+ * Exception thrown when a requested page or page size cannot be served.
+ */
+public class InvalidPageRequestException extends RuntimeException {
+
+    /**
+     * Constructs an InvalidPageRequestException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
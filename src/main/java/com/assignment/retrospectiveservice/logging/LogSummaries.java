@@ -0,0 +1,68 @@
+package com.assignment.retrospectiveservice.logging;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.assignment.retrospectiveservice.dto.FeedbackItemDto;
+import com.assignment.retrospectiveservice.dto.RetrospectiveDto;
+
+/**
+ * Compact descriptions of retrospectives and feedback items for log messages:
+ * names, counts and ids rather than every feedback body. Names longer than
+ * {@code retrospective.logging.max-value-length} are truncated.
+ * <p>
+ * The descriptions are only rendered when the message is actually logged, so
+ * they are passed as placeholder arguments:
+ *
+ * <pre>
+ * log.info("Retrospective created: {}", logSummaries.of(retrospectiveDto));
+ * </pre>
+ */
+@Component
+public class LogSummaries {
+
+    private final int maxValueLength;
+
+    public LogSummaries(@Value("${retrospective.logging.max-value-length:64}") int maxValueLength) {
+        this.maxValueLength = maxValueLength;
+    }
+
+    public Object of(RetrospectiveDto retrospectiveDto) {
+        return lazily(() -> "name='" + truncate(retrospectiveDto.getName()) + "', date=" + retrospectiveDto.getDate()
+                + ", participants=" + size(retrospectiveDto.getParticipants())
+                + ", feedbackItems=" + size(retrospectiveDto.getFeedbackItems()));
+    }
+
+    public Object of(FeedbackItemDto feedbackItemDto) {
+        return lazily(() -> "id=" + feedbackItemDto.getId() + ", name='" + truncate(feedbackItemDto.getName())
+                + "', feedbackType=" + feedbackItemDto.getFeedbackType()
+                + ", bodyLength=" + length(feedbackItemDto.getBody()));
+    }
+
+    String truncate(String value) {
+        if (value == null || value.length() <= maxValueLength) {
+            return value;
+        }
+        return value.substring(0, maxValueLength) + "...";
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static int size(Collection<?> collection) {
+        return collection == null ? 0 : collection.size();
+    }
+
+    private static Object lazily(Supplier<String> summary) {
+        return new Object() {
+            @Override
+            public String toString() {
+                return summary.get();
+            }
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package com.assignment.retrospectiveservice.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Logs only a fraction ({@code rate}) of the INFO and finer events of the
+ * loggers under {@code loggerPrefix}; warnings and errors always pass. The
+ * decision is taken before the message is formatted, so dropped events cost
+ * next to nothing. Configured in {@code logback-spring.xml}.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private String loggerPrefix = "";
+    private double rate = 1.0;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+            Throwable t) {
+        if (rate >= 1.0 || level == null || level.isGreaterOrEqual(Level.WARN)
+                || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextDouble() < rate ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void setRate(double rate) {
+        this.rate = rate;
+    }
+}
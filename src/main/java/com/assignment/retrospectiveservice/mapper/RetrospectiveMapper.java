@@ -0,0 +1,105 @@
+package com.assignment.retrospectiveservice.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mapstruct.AfterMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.MappingTarget;
+
+import com.assignment.retrospectiveservice.dto.FeedbackItemDto;
+import com.assignment.retrospectiveservice.dto.RetrospectiveDto;
+import com.assignment.retrospectiveservice.model.FeedbackItem;
+import com.assignment.retrospectiveservice.model.Retrospective;
+
+/**
+ * Compile-time generated mapper between the retrospective entities and their
+ * DTOs. The implementation is generated by MapStruct and uses plain getters and
+ * setters, so no reflection happens at runtime.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface RetrospectiveMapper {
+
+    /**
+     * Maps a retrospective entity to its DTO.
+     *
+     * @param retrospective the entity
+     * @return the DTO
+     */
+    RetrospectiveDto toDto(Retrospective retrospective);
+
+    /**
+     * Maps a retrospective entity to its DTO, leaving the participants and
+     * feedback items unset so that neither collection is initialised.
+     *
+     * @param retrospective the entity
+     * @return the DTO without collections
+     */
+    @Mapping(target = "participants", ignore = true)
+    @Mapping(target = "feedbackItems", ignore = true)
+    RetrospectiveDto toDtoWithoutCollections(Retrospective retrospective);
+
+    /**
+     * Maps a retrospective DTO to a new, not yet persisted entity.
+     *
+     * @param retrospectiveDto the DTO
+     * @return the entity
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "revision", ignore = true)
+    Retrospective toEntity(RetrospectiveDto retrospectiveDto);
+
+    /**
+     * Maps a feedback item entity to its DTO.
+     *
+     * @param feedbackItem the entity
+     * @return the DTO
+     */
+    FeedbackItemDto toDto(FeedbackItem feedbackItem);
+
+    /**
+     * Maps feedback item entities to their DTOs.
+     *
+     * @param feedbackItems the entities
+     * @return the DTOs, in the same order
+     */
+    List<FeedbackItemDto> toFeedbackItemDtos(List<FeedbackItem> feedbackItems);
+
+    /**
+     * Maps a feedback item DTO to a new, not yet persisted entity.
+     *
+     * @param feedbackItemDto the DTO
+     * @return the entity
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "retrospective", ignore = true)
+    FeedbackItem toEntity(FeedbackItemDto feedbackItemDto);
+
+    /**
+     * Copies the fields of a feedback item DTO onto an existing entity.
+     *
+     * @param feedbackItemDto the updated data
+     * @param feedbackItem    the entity to update in place
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "retrospective", ignore = true)
+    void updateFeedbackItem(FeedbackItemDto feedbackItemDto, @MappingTarget FeedbackItem feedbackItem);
+
+    /**
+     * Points the feedback items of a freshly mapped retrospective back at it,
+     * since the item side owns the relationship.
+     *
+     * @param retrospective the mapped entity
+     */
+    @AfterMapping
+    default void linkFeedbackItems(@MappingTarget Retrospective retrospective) {
+        if (retrospective.getFeedbackItems() == null) {
+            retrospective.setFeedbackItems(new ArrayList<>());
+        }
+        retrospective.getFeedbackItems().forEach(feedbackItem -> feedbackItem.setRetrospective(retrospective));
+    }
+}
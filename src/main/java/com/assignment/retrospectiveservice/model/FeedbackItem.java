@@ -3,12 +3,18 @@ package com.assignment.retrospectiveservice.model;
 import java.util.UUID;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 /**
  * Entity class representing a feedback item.
@@ -18,10 +24,11 @@ import lombok.Data;
 public class FeedbackItem {
 
     /**
-     * The unique identifier for the feedback item.
+     * The unique identifier for the feedback item. Generated in memory, so it
+     * does not stand in the way of JDBC insert batching.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
     /**
@@ -40,4 +47,21 @@ public class FeedbackItem {
      */
     @NotNull
     private FeedbackType feedbackType;
+
+    /**
+     * Optimistic lock version, so concurrent updates of the same item do not
+     * silently overwrite each other.
+     */
+    @Version
+    private Long version;
+
+    /**
+     * The retrospective this feedback item belongs to. The item owns the
+     * foreign key, so adding feedback is a single insert into this table.
+     */
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "retrospective_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Retrospective retrospective;
 }
@@ -0,0 +1,45 @@
+package com.assignment.retrospectiveservice.model;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MapsId;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Number of feedback items a participant has given of one type in a
+ * retrospective. The rows are kept up to date as feedback is added and
+ * updated, so the statistics of a board are read without loading its feedback
+ * items.
+ */
+@Entity
+@Data
+public class FeedbackTally {
+
+    @EmbeddedId
+    private FeedbackTallyId id;
+
+    /**
+     * The retrospective the tally belongs to. Tallies are removed by the
+     * database together with their retrospective.
+     */
+    @MapsId("retrospectiveId")
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "retrospective_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Retrospective retrospective;
+
+    /**
+     * The number of feedback items.
+     */
+    private long itemCount;
+}
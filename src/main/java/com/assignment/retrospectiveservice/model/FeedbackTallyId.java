@@ -0,0 +1,26 @@
+package com.assignment.retrospectiveservice.model;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Key of a {@link FeedbackTally}: one row per retrospective, participant and
+ * feedback type.
+ */
+@Embeddable
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FeedbackTallyId implements Serializable {
+
+    private UUID retrospectiveId;
+
+    private String name;
+
+    private FeedbackType feedbackType;
+}
@@ -6,13 +6,15 @@ import java.util.List;
 import java.util.UUID;
 
 import jakarta.persistence.CascadeType;
-import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
@@ -21,14 +23,23 @@ import lombok.Data;
  * Entity class representing a retrospective.
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_retrospective_date", columnList = "date"),
+        @Index(name = "idx_retrospective_date_id", columnList = "date, id") }, uniqueConstraints = {
+                @UniqueConstraint(name = Retrospective.UNIQUE_NAME_CONSTRAINT, columnNames = "name") })
 @Data
 public class Retrospective {
 
+    /**
+     * Name of the unique constraint on {@link #name}, which rejects duplicate
+     * retrospectives on insert.
+     */
+    public static final String UNIQUE_NAME_CONSTRAINT = "uk_retrospective_name";
+
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
     private UUID id;
 
-    @Column(unique = true)
     private String name;
 
     private String summary;
@@ -40,9 +51,15 @@ public class Retrospective {
     @ElementCollection
     private List<String> participants;
 
-    @OneToMany(cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "retrospective", cascade = CascadeType.ALL)
     private List<FeedbackItem> feedbackItems;
 
+    /**
+     * Incremented on every change to the retrospective's feedback, so clients can
+     * tell whether a representation they hold is still current.
+     */
+    private long revision;
+
     // to avoid null pointer exception
     public Retrospective() {
         this.feedbackItems = new ArrayList<>();
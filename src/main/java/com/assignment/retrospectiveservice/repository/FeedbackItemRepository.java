@@ -0,0 +1,57 @@
+package com.assignment.retrospectiveservice.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.assignment.retrospectiveservice.model.FeedbackItem;
+import com.assignment.retrospectiveservice.search.FeedbackDocument;
+
+import jakarta.persistence.QueryHint;
+
+/**
+ * Repository interface for FeedbackItem entities.
+ */
+@Repository
+public interface FeedbackItemRepository extends JpaRepository<FeedbackItem, UUID> {
+
+    /**
+     * Finds a single feedback item of a retrospective by primary key, without
+     * loading the retrospective or its other feedback items.
+     *
+     * @param id              the id of the feedback item
+     * @param retrospectiveId the id of the retrospective it must belong to
+     * @return an Optional containing the feedback item, or empty if not found
+     */
+    Optional<FeedbackItem> findByIdAndRetrospectiveId(UUID id, UUID retrospectiveId);
+
+    /**
+     * Loads the given feedback items together with their retrospectives in one
+     * query.
+     *
+     * @param ids the ids of the feedback items
+     * @return the feedback items, in no particular order
+     */
+    @Query("select f from FeedbackItem f join fetch f.retrospective where f.id in :ids")
+    List<FeedbackItem> findAllWithRetrospectiveByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Streams the searchable text of all feedback items, without loading them as
+     * entities. Must be called within a transaction and closed after use.
+     *
+     * @return a stream of all feedback items' text
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = RetrospectiveRepository.STREAM_FETCH_SIZE))
+    @Query("select new com.assignment.retrospectiveservice.search.FeedbackDocument(f.id, f.retrospective.id, f.name,"
+            + " f.body) from FeedbackItem f")
+    Stream<FeedbackDocument> streamDocuments();
+}
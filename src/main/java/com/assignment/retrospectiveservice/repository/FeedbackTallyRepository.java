@@ -0,0 +1,55 @@
+package com.assignment.retrospectiveservice.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.assignment.retrospectiveservice.model.FeedbackTally;
+import com.assignment.retrospectiveservice.model.FeedbackTallyId;
+import com.assignment.retrospectiveservice.model.FeedbackType;
+
+/**
+ * Repository interface for FeedbackTally entities.
+ */
+@Repository
+public interface FeedbackTallyRepository extends JpaRepository<FeedbackTally, FeedbackTallyId> {
+
+    /**
+     * Finds the non-zero tallies of a retrospective. Served by the primary key,
+     * which leads with the retrospective id.
+     *
+     * @param retrospectiveId the id of the retrospective
+     * @return the tallies, in no particular order
+     */
+    @Query("select t from FeedbackTally t where t.id.retrospectiveId = :retrospectiveId and t.itemCount > 0")
+    List<FeedbackTally> findByRetrospectiveId(@Param("retrospectiveId") UUID retrospectiveId);
+
+    /**
+     * Adds to the tally of a participant and feedback type, creating it if it
+     * does not exist yet, in a single statement.
+     *
+     * @param retrospectiveId the id of the retrospective
+     * @param name            the name of the participant
+     * @param feedbackType    the feedback type
+     * @param delta           the number of items to add, negative to subtract
+     */
+    default void addToTally(UUID retrospectiveId, String name, FeedbackType feedbackType, long delta) {
+        mergeTally(retrospectiveId, name, feedbackType.ordinal(), delta);
+    }
+
+    @Modifying
+    @Query(nativeQuery = true, value = "merge into feedback_tally t"
+            + " using (values (cast(:retrospectiveId as uuid), cast(:name as varchar), cast(:feedbackType as tinyint),"
+            + " cast(:delta as bigint))) s (retrospective_id, name, feedback_type, delta)"
+            + " on t.retrospective_id = s.retrospective_id and t.name = s.name and t.feedback_type = s.feedback_type"
+            + " when matched then update set item_count = t.item_count + s.delta"
+            + " when not matched then insert (retrospective_id, name, feedback_type, item_count)"
+            + " values (s.retrospective_id, s.name, s.feedback_type, s.delta)")
+    void mergeTally(@Param("retrospectiveId") UUID retrospectiveId, @Param("name") String name,
+            @Param("feedbackType") int feedbackType, @Param("delta") long delta);
+}
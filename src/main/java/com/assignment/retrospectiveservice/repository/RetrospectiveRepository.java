@@ -1,20 +1,56 @@
 package com.assignment.retrospectiveservice.repository;
 
+import com.assignment.retrospectiveservice.config.CacheConfig;
+import com.assignment.retrospectiveservice.dto.RetrospectiveSummaryDto;
 import com.assignment.retrospectiveservice.model.Retrospective;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository interface for Retrospective entities.
  */
 @Repository
-public interface RetrospectiveRepository extends JpaRepository<Retrospective, Long> {
+public interface RetrospectiveRepository extends JpaRepository<Retrospective, UUID> {
+
+    String SUMMARY_SELECT = "select new com.assignment.retrospectiveservice.dto.RetrospectiveSummaryDto("
+            + "r.name, r.summary, r.date, size(r.participants),"
+            + " sum(case when f.feedbackType = com.assignment.retrospectiveservice.model.FeedbackType.POSITIVE"
+            + " then 1 else 0 end),"
+            + " sum(case when f.feedbackType = com.assignment.retrospectiveservice.model.FeedbackType.NEGATIVE"
+            + " then 1 else 0 end),"
+            + " sum(case when f.feedbackType = com.assignment.retrospectiveservice.model.FeedbackType.IDEA"
+            + " then 1 else 0 end),"
+            + " sum(case when f.feedbackType = com.assignment.retrospectiveservice.model.FeedbackType.PRAISE"
+            + " then 1 else 0 end))"
+            + " from Retrospective r left join r.feedbackItems f";
+
+    String SUMMARY_GROUP_BY = " group by r.id, r.name, r.summary, r.date order by r.date desc, r.id desc";
+
+    /**
+     * Number of rows fetched from the database per round trip while streaming.
+     */
+    String STREAM_FETCH_SIZE = "100";
 
     /**
      * Finds a retrospective by its name.
@@ -25,11 +61,201 @@ public interface RetrospectiveRepository extends JpaRepository<Retrospective, Lo
     Optional<Retrospective> findByName(String name);
 
     /**
-     * Finds retrospectives by their date.
-     * 
-     * @param date     the date of the retrospectives
+     * Finds a retrospective by its name together with its participants.
+     *
+     * @param name the name of the retrospective
+     * @return an Optional containing the retrospective, or empty if not found
+     */
+    @EntityGraph(attributePaths = "participants")
+    Optional<Retrospective> findWithParticipantsByName(String name);
+
+    /**
+     * Finds the id of a retrospective by its name without loading the entity.
+     * Found ids are cached; misses are not, so a retrospective created later is
+     * found right away.
+     *
+     * @param name the name of the retrospective
+     * @return an Optional containing the id, or empty if not found
+     */
+    @Cacheable(cacheNames = CacheConfig.RETROSPECTIVE_IDS, unless = "#result == null")
+    @Query("select r.id from Retrospective r where r.name = :name")
+    Optional<UUID> findIdByName(@Param("name") String name);
+
+    /**
+     * Finds the id and revision of a retrospective by its name without loading
+     * the entity.
+     *
+     * @param name the name of the retrospective
+     * @return an Optional containing the id and revision, or empty if not found
+     */
+    @Query("select new com.assignment.retrospectiveservice.repository.RetrospectiveRevision(r.id, r.revision)"
+            + " from Retrospective r where r.name = :name")
+    Optional<RetrospectiveRevision> findRevisionByName(@Param("name") String name);
+
+    /**
+     * Finds a page of retrospective ids and revisions, newest first. Used as the
+     * first phase of listing, so paging is applied to plain ids rather than to
+     * rows with collections, and the revisions tell whether the page changed.
+     *
+     * @param pageable pagination information
+     * @return a page of retrospective ids and revisions
+     */
+    @Query(value = "select new com.assignment.retrospectiveservice.repository.RetrospectiveRevision(r.id,"
+            + " r.revision) from Retrospective r order by r.date desc, r.id desc",
+            countQuery = "select count(r) from Retrospective r")
+    Page<RetrospectiveRevision> findPageOfRevisions(Pageable pageable);
+
+    /**
+     * Increments the revision of a retrospective in a single update statement,
+     * without loading it.
+     *
+     * @param id the id of the retrospective
+     */
+    @Modifying
+    @Query("update Retrospective r set r.revision = r.revision + 1 where r.id = :id")
+    void incrementRevision(@Param("id") UUID id);
+
+    /**
+     * Finds a page of ids of retrospectives held within the given date range,
+     * newest first. The range and the ordering are both served by the
+     * (date, id) index.
+     *
+     * @param from     the first date of the range, inclusive
+     * @param to       the last date of the range, inclusive
      * @param pageable pagination information
-     * @return a page of retrospectives
+     * @return a page of retrospective ids
+     */
+    @Query(value = "select r.id from Retrospective r where r.date between :from and :to"
+            + " order by r.date desc, r.id desc",
+            countQuery = "select count(r) from Retrospective r where r.date between :from and :to")
+    Page<UUID> findPageOfIdsByDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to,
+            Pageable pageable);
+
+    /**
+     * Finds the ids of the first retrospectives in (date desc, id desc) order.
+     *
+     * @param limit the maximum number of ids
+     * @return the retrospective ids
+     */
+    @Query("select r.id from Retrospective r order by r.date desc, r.id desc")
+    List<UUID> findFirstIds(Limit limit);
+
+    /**
+     * Finds the names of the most recent retrospectives, in (date desc, id desc)
+     * order.
+     *
+     * @param limit the maximum number of names
+     * @return the retrospective names
+     */
+    @Query("select r.name from Retrospective r order by r.date desc, r.id desc")
+    List<String> findFirstNames(Limit limit);
+
+    /**
+     * Finds the ids of the retrospectives following the given keyset position in
+     * (date desc, id desc) order.
+     *
+     * @param date  the date of the last retrospective seen
+     * @param id    the id of the last retrospective seen
+     * @param limit the maximum number of ids
+     * @return the retrospective ids
+     */
+    @Query("select r.id from Retrospective r where r.date < :date or (r.date = :date and r.id < :id)"
+            + " order by r.date desc, r.id desc")
+    List<UUID> findIdsAfter(@Param("date") LocalDate date, @Param("id") UUID id, Limit limit);
+
+    /**
+     * Finds the ids of the first retrospectives held within the given date range,
+     * in (date desc, id desc) order.
+     *
+     * @param from  the first date of the range, inclusive
+     * @param to    the last date of the range, inclusive
+     * @param limit the maximum number of ids
+     * @return the retrospective ids
+     */
+    @Query("select r.id from Retrospective r where r.date between :from and :to order by r.date desc, r.id desc")
+    List<UUID> findFirstIdsByDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to, Limit limit);
+
+    /**
+     * Finds the ids of the retrospectives held within the given date range that
+     * follow the given keyset position, in (date desc, id desc) order.
+     *
+     * @param from  the first date of the range, inclusive
+     * @param to    the last date of the range, inclusive
+     * @param date  the date of the last retrospective seen
+     * @param id    the id of the last retrospective seen
+     * @param limit the maximum number of ids
+     * @return the retrospective ids
+     */
+    @Query("select r.id from Retrospective r where r.date between :from and :to"
+            + " and (r.date < :date or (r.date = :date and r.id < :id)) order by r.date desc, r.id desc")
+    List<UUID> findIdsByDateBetweenAfter(@Param("from") LocalDate from, @Param("to") LocalDate to,
+            @Param("date") LocalDate date, @Param("id") UUID id, Limit limit);
+
+    /**
+     * Counts the retrospectives held within the given date range.
+     *
+     * @param from the first date of the range, inclusive
+     * @param to   the last date of the range, inclusive
+     * @return the number of retrospectives
+     */
+    long countByDateBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Finds a page of retrospective summaries, newest first, with feedback counts
+     * per type computed in the database.
+     *
+     * @param pageable pagination information
+     * @return a page of retrospective summaries
+     */
+    @Query(value = SUMMARY_SELECT + SUMMARY_GROUP_BY, countQuery = "select count(r) from Retrospective r")
+    Page<RetrospectiveSummaryDto> findSummaries(Pageable pageable);
+
+    /**
+     * Finds a page of summaries of the retrospectives held within the given date
+     * range.
+     *
+     * @param from     the first date of the range, inclusive
+     * @param to       the last date of the range, inclusive
+     * @param pageable pagination information
+     * @return a page of retrospective summaries
+     */
+    @Query(value = SUMMARY_SELECT + " where r.date between :from and :to" + SUMMARY_GROUP_BY,
+            countQuery = "select count(r) from Retrospective r where r.date between :from and :to")
+    Page<RetrospectiveSummaryDto> findSummariesByDateBetween(@Param("from") LocalDate from,
+            @Param("to") LocalDate to, Pageable pageable);
+
+    /**
+     * Loads the given retrospectives together with their participants in one
+     * query.
+     *
+     * @param ids the ids of the retrospectives
+     * @return the retrospectives, in no particular order
+     */
+    @Query("select distinct r from Retrospective r left join fetch r.participants where r.id in :ids")
+    List<Retrospective> findAllWithParticipantsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Loads the given retrospectives together with their feedback items in one
+     * query. When called in the same transaction as
+     * {@link #findAllWithParticipantsByIdIn(Collection)} it initialises the
+     * feedback items of the already loaded instances.
+     *
+     * @param ids the ids of the retrospectives
+     * @return the retrospectives, in no particular order
+     */
+    @Query("select distinct r from Retrospective r left join fetch r.feedbackItems where r.id in :ids")
+    List<Retrospective> findAllWithFeedbackItemsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Streams all retrospectives, oldest first, without loading their
+     * collections. Rows are fetched from an open cursor as the stream is consumed,
+     * and the entities are read-only, so no snapshots are kept for dirty checking.
+     * Must be called within a transaction and closed after use.
+     *
+     * @return a stream of all retrospectives
      */
-    Page<Retrospective> findByDate(LocalDate date, Pageable pageable);
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("select r from Retrospective r order by r.date, r.id")
+    Stream<Retrospective> streamAll();
 }
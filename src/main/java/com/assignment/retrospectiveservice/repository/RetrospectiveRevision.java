@@ -0,0 +1,13 @@
+package com.assignment.retrospectiveservice.repository;
+
+import java.util.UUID;
+
+/**
+ * Id and revision of a retrospective, enough to tell whether a representation
+ * of it is still current without loading it.
+ *
+ * @param id       the id of the retrospective
+ * @param revision the revision of the retrospective
+ */
+public record RetrospectiveRevision(UUID id, long revision) {
+}
@@ -0,0 +1,15 @@
+package com.assignment.retrospectiveservice.search;
+
+import java.util.UUID;
+
+/**
+ * The searchable text of a feedback item: the name of the person who gave it
+ * and its body.
+ *
+ * @param feedbackItemId  the id of the feedback item
+ * @param retrospectiveId the id of the retrospective it belongs to
+ * @param name            the name of the person providing feedback
+ * @param body            the body of the feedback item
+ */
+public record FeedbackDocument(UUID feedbackItemId, UUID retrospectiveId, String name, String body) {
+}
@@ -0,0 +1,12 @@
+package com.assignment.retrospectiveservice.search;
+
+import java.util.List;
+
+/**
+ * Published when feedback items are created or updated, with their new text.
+ * Listeners that must only see committed data handle it after the commit.
+ *
+ * @param documents the created or updated feedback items
+ */
+public record FeedbackItemsChangedEvent(List<FeedbackDocument> documents) {
+}
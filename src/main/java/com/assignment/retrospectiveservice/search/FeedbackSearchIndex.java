@@ -0,0 +1,430 @@
+package com.assignment.retrospectiveservice.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index over the name and body of feedback items, ranked
+ * with BM25.
+ * <p>
+ * Every indexed feedback item gets an internal document number, and every term
+ * a postings list of the documents containing it with the term frequencies,
+ * appended to as documents are added. Replacing a document marks its old number
+ * deleted and appends it under a new one; once deleted numbers make up half of
+ * the index, the live documents are renumbered and the postings rebuilt.
+ * <p>
+ * Searches run concurrently with each other and exclusively of updates.
+ */
+public class FeedbackSearchIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * A ranked search result.
+     *
+     * @param feedbackItemId  the id of the matching feedback item
+     * @param retrospectiveId the id of its retrospective
+     * @param score           the BM25 score, higher is better
+     */
+    public record Hit(UUID feedbackItemId, UUID retrospectiveId, double score) {
+    }
+
+    /**
+     * A page of ranked results with the total number of matching feedback items.
+     *
+     * @param hits  the results of the page, best first
+     * @param total the number of matching feedback items
+     */
+    public record Hits(List<Hit> hits, long total) {
+    }
+
+    private static final class Postings {
+        private final String term;
+        private int[] documents = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+        private int liveDocuments;
+
+        Postings(String term) {
+            this.term = term;
+        }
+
+        void add(int document, int frequency) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            documents[size] = document;
+            frequencies[size++] = frequency;
+            liveDocuments++;
+        }
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postingsByTerm = new HashMap<>();
+    private final Map<UUID, Integer> documentsByFeedbackItemId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private UUID[] feedbackItemIds = new UUID[INITIAL_CAPACITY];
+    private UUID[] retrospectiveIds = new UUID[INITIAL_CAPACITY];
+    private String[][] terms = new String[INITIAL_CAPACITY][];
+    private int[][] frequencies = new int[INITIAL_CAPACITY][];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private int documentCount;
+    private long totalLength;
+
+    /**
+     * Adds feedback items to the index, replacing the ones already indexed.
+     *
+     * @param documents the feedback items
+     */
+    public void index(List<FeedbackDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            for (FeedbackDocument document : documents) {
+                Integer previous = documentsByFeedbackItemId.get(document.feedbackItemId());
+                if (previous != null) {
+                    delete(previous);
+                }
+                add(document);
+            }
+            if (deleted.cardinality() > Math.max(INITIAL_CAPACITY, documentCount / 2)) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all feedback items from the index.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            reset();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of indexed feedback items
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentsByFeedbackItemId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the feedback items containing any of the terms of the query, ranked
+     * by BM25 so that items containing more, rarer and more frequent query terms
+     * come first. Ties are broken in favour of the most recently indexed item.
+     *
+     * @param query  the words to search for
+     * @param offset the number of best results to skip
+     * @param limit  the maximum number of results to return
+     * @return the requested results and the total number of matches
+     * @throws IllegalArgumentException if the offset or limit is negative
+     */
+    public Hits search(String query, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("offset and limit must not be negative");
+        }
+        List<String> terms = tokenize(query).keySet().stream().toList();
+        lock.readLock().lock();
+        try {
+            int liveDocuments = documentsByFeedbackItemId.size();
+            List<Postings> matchingPostings = terms.stream().map(postingsByTerm::get)
+                    .filter(postings -> postings != null && postings.liveDocuments > 0)
+                    .toList();
+            if (matchingPostings.isEmpty()) {
+                return new Hits(List.of(), 0);
+            }
+            int termCount = matchingPostings.size();
+            double[] idfs = new double[termCount];
+            for (int i = 0; i < termCount; i++) {
+                int documentFrequency = matchingPostings.get(i).liveDocuments;
+                idfs[i] = Math.log(1 + (liveDocuments - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            }
+            double lengthNormBase = K1 * (1 - B);
+            double lengthNormPerTerm = K1 * B * liveDocuments / totalLength;
+
+            // no more documents can match than the matching postings hold, whatever page is asked for
+            long candidates = Math.min(liveDocuments,
+                    matchingPostings.stream().mapToLong(postings -> postings.liveDocuments).sum());
+            TopDocuments top = new TopDocuments((int) Math.min((long) offset + limit, candidates));
+            long total = 0;
+            if (termCount == 1) {
+                Postings postings = matchingPostings.get(0);
+                for (int i = 0; i < postings.size; i++) {
+                    int document = postings.documents[i];
+                    if (!deleted.get(document)) {
+                        int frequency = postings.frequencies[i];
+                        total++;
+                        top.offer(document, idfs[0] * frequency * (K1 + 1)
+                                / (frequency + lengthNormBase + lengthNormPerTerm * lengths[document]));
+                    }
+                }
+            }
+            // otherwise the postings, which are in ascending document order, are merged one document at a time
+            int[] positions = new int[termCount];
+            while (termCount > 1) {
+                int document = Integer.MAX_VALUE;
+                for (int i = 0; i < termCount; i++) {
+                    Postings postings = matchingPostings.get(i);
+                    if (positions[i] < postings.size) {
+                        document = Math.min(document, postings.documents[positions[i]]);
+                    }
+                }
+                if (document == Integer.MAX_VALUE) {
+                    break;
+                }
+                double score = 0;
+                for (int i = 0; i < termCount; i++) {
+                    Postings postings = matchingPostings.get(i);
+                    if (positions[i] < postings.size && postings.documents[positions[i]] == document) {
+                        int frequency = postings.frequencies[positions[i]++];
+                        score += idfs[i] * frequency * (K1 + 1)
+                                / (frequency + lengthNormBase + lengthNormPerTerm * lengths[document]);
+                    }
+                }
+                if (!deleted.get(document)) {
+                    total++;
+                    top.offer(document, score);
+                }
+            }
+
+            int best = top.size();
+            int[] rankedDocuments = new int[best];
+            double[] rankedScores = new double[best];
+            top.drain(rankedDocuments, rankedScores);
+            List<Hit> hits = new ArrayList<>(Math.max(0, best - offset));
+            for (int i = offset; i < best; i++) {
+                int document = rankedDocuments[i];
+                hits.add(new Hit(feedbackItemIds[document], retrospectiveIds[document], rankedScores[i]));
+            }
+            return new Hits(hits, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Bounded min-heap of the best scoring documents seen so far, with the worst
+     * of them on top, so most documents are rejected by a single comparison.
+     * Of equal scores, the higher (more recently indexed) document wins.
+     */
+    private static final class TopDocuments {
+        private final int[] documents;
+        private final double[] scores;
+        private int size;
+
+        TopDocuments(int capacity) {
+            documents = new int[capacity];
+            scores = new double[capacity];
+        }
+
+        void offer(int document, double score) {
+            if (size < documents.length) {
+                documents[size] = document;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (size > 0 && better(document, score, 0)) {
+                documents[0] = document;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * Empties the heap into the given arrays, best document first.
+         */
+        void drain(int[] rankedDocuments, double[] rankedScores) {
+            for (int i = size - 1; i >= 0; i--) {
+                rankedDocuments[i] = documents[0];
+                rankedScores[i] = scores[0];
+                size--;
+                documents[0] = documents[size];
+                scores[0] = scores[size];
+                siftDown(0);
+            }
+        }
+
+        private boolean better(int document, double score, int slot) {
+            return score > scores[slot] || (score == scores[slot] && document > documents[slot]);
+        }
+
+        private void siftUp(int slot) {
+            while (slot > 0) {
+                int parent = (slot - 1) / 2;
+                if (!better(documents[parent], scores[parent], slot)) {
+                    break;
+                }
+                swap(slot, parent);
+                slot = parent;
+            }
+        }
+
+        private void siftDown(int slot) {
+            while (true) {
+                int worst = slot;
+                for (int child = 2 * slot + 1; child <= 2 * slot + 2 && child < size; child++) {
+                    if (better(documents[worst], scores[worst], child)) {
+                        worst = child;
+                    }
+                }
+                if (worst == slot) {
+                    return;
+                }
+                swap(slot, worst);
+                slot = worst;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int document = documents[a];
+            documents[a] = documents[b];
+            documents[b] = document;
+            double score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+    }
+
+    private void add(FeedbackDocument document) {
+        // a missing name or body has no terms, rather than the term "null"
+        Map<String, Integer> termCounts = tokenize(Stream.of(document.name(), document.body())
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(" ")));
+        int number = documentCount++;
+        ensureCapacity(documentCount);
+        feedbackItemIds[number] = document.feedbackItemId();
+        retrospectiveIds[number] = document.retrospectiveId();
+        String[] documentTerms = new String[termCounts.size()];
+        int[] documentFrequencies = new int[termCounts.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : termCounts.entrySet()) {
+            documentTerms[i] = entry.getKey();
+            documentFrequencies[i++] = entry.getValue();
+        }
+        addPostings(number, documentTerms, documentFrequencies);
+        documentsByFeedbackItemId.put(document.feedbackItemId(), number);
+    }
+
+    /**
+     * Appends a document to the postings of its terms, and keeps its terms, with
+     * each term string shared with the postings, to delete or renumber it later.
+     */
+    private void addPostings(int document, String[] documentTerms, int[] documentFrequencies) {
+        int length = 0;
+        for (int i = 0; i < documentTerms.length; i++) {
+            Postings postings = postingsByTerm.computeIfAbsent(documentTerms[i], Postings::new);
+            postings.add(document, documentFrequencies[i]);
+            documentTerms[i] = postings.term;
+            length += documentFrequencies[i];
+        }
+        terms[document] = documentTerms;
+        frequencies[document] = documentFrequencies;
+        lengths[document] = length;
+        totalLength += length;
+    }
+
+    private void delete(int document) {
+        deleted.set(document);
+        totalLength -= lengths[document];
+        for (String term : terms[document]) {
+            postingsByTerm.get(term).liveDocuments--;
+        }
+        terms[document] = null;
+        frequencies[document] = null;
+    }
+
+    /**
+     * Renumbers the live documents and rebuilds the postings without the deleted
+     * ones.
+     */
+    private void compact() {
+        UUID[] oldFeedbackItemIds = feedbackItemIds;
+        UUID[] oldRetrospectiveIds = retrospectiveIds;
+        String[][] oldTerms = terms;
+        int[][] oldFrequencies = frequencies;
+        int oldDocumentCount = documentCount;
+        BitSet oldDeleted = (BitSet) deleted.clone();
+        reset();
+        for (int document = 0; document < oldDocumentCount; document++) {
+            if (!oldDeleted.get(document)) {
+                int number = documentCount++;
+                ensureCapacity(documentCount);
+                feedbackItemIds[number] = oldFeedbackItemIds[document];
+                retrospectiveIds[number] = oldRetrospectiveIds[document];
+                addPostings(number, oldTerms[document], oldFrequencies[document]);
+                documentsByFeedbackItemId.put(feedbackItemIds[number], number);
+            }
+        }
+    }
+
+    private void reset() {
+        postingsByTerm.clear();
+        documentsByFeedbackItemId.clear();
+        deleted.clear();
+        feedbackItemIds = new UUID[INITIAL_CAPACITY];
+        retrospectiveIds = new UUID[INITIAL_CAPACITY];
+        terms = new String[INITIAL_CAPACITY][];
+        frequencies = new int[INITIAL_CAPACITY][];
+        lengths = new int[INITIAL_CAPACITY];
+        documentCount = 0;
+        totalLength = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > feedbackItemIds.length) {
+            int newLength = Math.max(capacity, feedbackItemIds.length * 2);
+            feedbackItemIds = Arrays.copyOf(feedbackItemIds, newLength);
+            retrospectiveIds = Arrays.copyOf(retrospectiveIds, newLength);
+            terms = Arrays.copyOf(terms, newLength);
+            frequencies = Arrays.copyOf(frequencies, newLength);
+            lengths = Arrays.copyOf(lengths, newLength);
+        }
+    }
+
+    /**
+     * Splits text into lower case words of letters and digits, counting how often
+     * each occurs.
+     */
+    static Map<String, Integer> tokenize(String text) {
+        Map<String, Integer> termCounts = new LinkedHashMap<>();
+        if (text == null) {
+            return termCounts;
+        }
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                termCounts.merge(token, 1, Integer::sum);
+            }
+        }
+        return termCounts;
+    }
+}
@@ -0,0 +1,102 @@
+package com.assignment.retrospectiveservice.service;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Service;
+
+import com.assignment.retrospectiveservice.config.MetricsConfig;
+import com.assignment.retrospectiveservice.dto.FeedbackItemDto;
+import com.assignment.retrospectiveservice.exception.FeedbackItemConflictException;
+import com.assignment.retrospectiveservice.exception.FeedbackItemNotFoundException;
+import com.assignment.retrospectiveservice.exception.RetrospectiveNotFoundException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Updates feedback items with optimistic concurrency and a bounded retry.
+ * <p>
+ * Every update runs in its own transaction, reading only the addressed feedback
+ * item and writing it guarded by its version. It also advances the revision of
+ * the retrospective, so concurrent writes to one board still queue on that row
+ * until the first commits. When an update loses to a concurrent update of the
+ * same item, it is retried in a new transaction, up to
+ * {@code retrospective.update-retry.max-attempts} attempts in all, after a
+ * randomised pause of up to {@code backoff} times the attempt number. A retry
+ * re-reads the item, so an update that names the version it edited is then
+ * refused as a real conflict, while an update without a version applies to the
+ * new state. Updates still losing after the last attempt are refused as well.
+ */
+@Service
+@Slf4j
+public class FeedbackItemUpdateRetrier {
+
+    private final RetrospectiveService retrospectiveService;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Counter retries;
+
+    public FeedbackItemUpdateRetrier(RetrospectiveService retrospectiveService, MeterRegistry meterRegistry,
+            @Value("${retrospective.update-retry.max-attempts:3}") int maxAttempts,
+            @Value("${retrospective.update-retry.backoff:5ms}") Duration backoff) {
+        this.retrospectiveService = retrospectiveService;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.retries = Counter.builder(MetricsConfig.FEEDBACK_UPDATE_RETRIES)
+                .description("Feedback item updates retried after a concurrent update of the same item")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Updates a feedback item in a retrospective, retrying if a concurrent update
+     * of the same item commits first.
+     *
+     * @param retrospectiveName The name of the retrospective.
+     * @param feedbackItemId    The ID of the feedback item to update.
+     * @param feedbackItemDto   The updated feedback item data.
+     * @return The updated feedback item.
+     * @throws RetrospectiveNotFoundException If the retrospective with the given
+     *                                        name is not found.
+     * @throws FeedbackItemNotFoundException  If the feedback item with the given ID
+     *                                        is not found in the retrospective.
+     * @throws FeedbackItemConflictException  If the feedback item was changed since
+     *                                        the given version, or kept changing
+     *                                        concurrently on every attempt.
+     */
+    public FeedbackItemDto updateFeedbackItem(String retrospectiveName, String feedbackItemId,
+            FeedbackItemDto feedbackItemDto) {
+        for (int attempt = 1;; attempt++) {
+            try {
+                return retrospectiveService.updateFeedbackItem(retrospectiveName, feedbackItemId, feedbackItemDto);
+            } catch (ConcurrencyFailureException ex) {
+                if (attempt >= maxAttempts) {
+                    log.warn("Giving up updating feedback item {} after {} attempts", feedbackItemId, attempt);
+                    throw new FeedbackItemConflictException(
+                            "Feedback item was changed concurrently: " + feedbackItemId);
+                }
+                log.debug("Retrying update of feedback item {} after attempt {}: {}", feedbackItemId, attempt,
+                        ex.getMessage());
+                retries.increment();
+                pause(attempt, feedbackItemId);
+            }
+        }
+    }
+
+    /**
+     * Waits a random time, so that updates which collided once are unlikely to
+     * collide again.
+     */
+    private void pause(int attempt, String feedbackItemId) {
+        long nanos = ThreadLocalRandom.current().nextLong(backoff.toNanos() * attempt + 1);
+        try {
+            Thread.sleep(Duration.ofNanos(nanos));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new FeedbackItemConflictException("Feedback item was changed concurrently: " + feedbackItemId);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.assignment.retrospectiveservice.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.assignment.retrospectiveservice.dto.FeedbackSearchResultDto;
+import com.assignment.retrospectiveservice.exception.InvalidPageRequestException;
+import com.assignment.retrospectiveservice.mapper.RetrospectiveMapper;
+import com.assignment.retrospectiveservice.model.FeedbackItem;
+import com.assignment.retrospectiveservice.repository.FeedbackItemRepository;
+import com.assignment.retrospectiveservice.search.FeedbackDocument;
+import com.assignment.retrospectiveservice.search.FeedbackItemsChangedEvent;
+import com.assignment.retrospectiveservice.search.FeedbackSearchIndex;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Full-text search over the name and body of feedback items, served by an
+ * in-process {@link FeedbackSearchIndex}.
+ * <p>
+ * The index is built from the database once all beans are created, before the
+ * web server starts taking requests, and then kept up to date with the feedback
+ * items created and updated by {@link RetrospectiveService}, once their
+ * transaction has committed.
+ */
+@Service
+@Slf4j
+public class FeedbackSearchService implements SmartInitializingSingleton {
+
+    /**
+     * Number of documents handed to the index at once while rebuilding.
+     */
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final FeedbackItemRepository feedbackItemRepository;
+    private final RetrospectiveMapper retrospectiveMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final FeedbackSearchIndex index = new FeedbackSearchIndex();
+
+    public FeedbackSearchService(FeedbackItemRepository feedbackItemRepository,
+            RetrospectiveMapper retrospectiveMapper, PlatformTransactionManager transactionManager) {
+        this.feedbackItemRepository = feedbackItemRepository;
+        this.retrospectiveMapper = retrospectiveMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuildIndex();
+    }
+
+    /**
+     * Replaces the contents of the index with all feedback items in the database.
+     *
+     * @return The number of indexed feedback items.
+     */
+    public int rebuildIndex() {
+        long start = System.nanoTime();
+        index.clear();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<FeedbackDocument> documents = feedbackItemRepository.streamDocuments()) {
+                List<FeedbackDocument> chunk = new ArrayList<>(REBUILD_CHUNK_SIZE);
+                documents.forEach(document -> {
+                    chunk.add(document);
+                    if (chunk.size() == REBUILD_CHUNK_SIZE) {
+                        index.index(chunk);
+                        chunk.clear();
+                    }
+                });
+                index.index(chunk);
+            }
+        });
+        log.info("Indexed {} feedback items for search in {} ms", index.size(),
+                (System.nanoTime() - start) / 1_000_000);
+        return index.size();
+    }
+
+    /**
+     * Indexes created and updated feedback items once their transaction has
+     * committed, so rolled back writes never become searchable.
+     *
+     * @param event The changed feedback items.
+     */
+    @TransactionalEventListener
+    public void onFeedbackItemsChanged(FeedbackItemsChangedEvent event) {
+        index.index(event.documents());
+    }
+
+    /**
+     * Searches feedback items for any of the words of the query, best matches
+     * first. Only the feedback items of the requested page are read from the
+     * database.
+     *
+     * @param query    The words to search for.
+     * @param page     The page number.
+     * @param pageSize The size of each page.
+     * @return A page of matching feedback items with their retrospective names.
+     * @throws InvalidPageRequestException If the page is negative, the page size
+     *                                     is not positive, or the page lies
+     *                                     beyond the results the index can rank.
+     */
+    @Transactional(readOnly = true)
+    public Page<FeedbackSearchResultDto> searchFeedback(String query, int page, int pageSize) {
+        if (page < 0 || pageSize < 1 || ((long) page + 1) * pageSize > Integer.MAX_VALUE) {
+            throw new InvalidPageRequestException("Invalid page " + page + " of size " + pageSize);
+        }
+        PageRequest pageRequest = PageRequest.of(page, pageSize);
+        FeedbackSearchIndex.Hits hits = index.search(query, Math.toIntExact(pageRequest.getOffset()), pageSize);
+        List<UUID> ids = hits.hits().stream().map(FeedbackSearchIndex.Hit::feedbackItemId).toList();
+        Map<UUID, FeedbackItem> feedbackItemsById = ids.isEmpty() ? Map.of()
+                : feedbackItemRepository.findAllWithRetrospectiveByIdIn(ids).stream()
+                        .collect(Collectors.toMap(FeedbackItem::getId, Function.identity()));
+        List<FeedbackSearchResultDto> results = hits.hits().stream()
+                .filter(hit -> feedbackItemsById.containsKey(hit.feedbackItemId()))
+                .map(hit -> {
+                    FeedbackItem feedbackItem = feedbackItemsById.get(hit.feedbackItemId());
+                    return new FeedbackSearchResultDto(feedbackItem.getRetrospective().getName(),
+                            retrospectiveMapper.toDto(feedbackItem), hit.score());
+                })
+                .collect(Collectors.toList());
+        log.debug("Found {} feedback items for '{}'", hits.total(), query);
+        return new PageImpl<>(results, pageRequest, hits.total());
+    }
+}
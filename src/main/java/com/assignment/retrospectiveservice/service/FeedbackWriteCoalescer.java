@@ -0,0 +1,228 @@
+package com.assignment.retrospectiveservice.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.assignment.retrospectiveservice.config.MetricsConfig;
+import com.assignment.retrospectiveservice.dto.FeedbackItemDto;
+import com.assignment.retrospectiveservice.exception.FeedbackWriteTimeoutException;
+import com.assignment.retrospectiveservice.exception.RetrospectiveNotFoundException;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Adds feedback items to a retrospective with group commit: items posted to
+ * the same retrospective at about the same time are added in one transaction
+ * by {@link RetrospectiveService#addFeedbackItems(String, List)}, and every
+ * caller gets back its own item.
+ * <p>
+ * The first item posted to a retrospective with no pending writes starts a
+ * drain, which waits {@code retrospective.feedback-coalescing.window} for more
+ * items and then commits up to {@code max-batch-size} of them. Items posted
+ * while a batch commits go into the next one. If a batch fails for any other
+ * reason than a missing retrospective, its items are retried one transaction
+ * each, so that a bad item only fails its own request. An item still queued
+ * after {@code timeout} is withdrawn and its caller told so; an item whose
+ * batch is already committing is waited for, so that a caller is never told
+ * to retry an item that was added.
+ */
+@Service
+@Slf4j
+public class FeedbackWriteCoalescer {
+
+    private final RetrospectiveService retrospectiveService;
+    private final boolean enabled;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Duration timeout;
+    private final DistributionSummary batchSizes;
+    private final Map<String, List<PendingFeedbackItem>> pendingByRetrospective = new ConcurrentHashMap<>();
+    private final ExecutorService drains = Executors.newVirtualThreadPerTaskExecutor();
+
+    public FeedbackWriteCoalescer(RetrospectiveService retrospectiveService, MeterRegistry meterRegistry,
+            @Value("${retrospective.feedback-coalescing.enabled:true}") boolean enabled,
+            @Value("${retrospective.feedback-coalescing.window:2ms}") Duration window,
+            @Value("${retrospective.feedback-coalescing.max-batch-size:100}") int maxBatchSize,
+            @Value("${retrospective.feedback-coalescing.timeout:30s}") Duration timeout) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("max-batch-size must be at least 1, not " + maxBatchSize);
+        }
+        this.retrospectiveService = retrospectiveService;
+        this.enabled = enabled;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.timeout = timeout;
+        this.batchSizes = DistributionSummary.builder(MetricsConfig.FEEDBACK_BATCH_SIZE)
+                .description("Feedback items added per transaction")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Adds a feedback item to a retrospective, together with the items posted to
+     * it at about the same time.
+     *
+     * @param retrospectiveName The name of the retrospective.
+     * @param feedbackItemDto   The feedback item data.
+     * @return The created feedback item, including its generated id.
+     * @throws RetrospectiveNotFoundException If the retrospective with the given
+     *                                        name is not found.
+     * @throws FeedbackWriteTimeoutException  If the item was still queued after
+     *                                        the timeout; it is then not added.
+     */
+    public FeedbackItemDto addFeedbackItem(String retrospectiveName, FeedbackItemDto feedbackItemDto) {
+        if (!enabled) {
+            return retrospectiveService.addFeedbackItem(retrospectiveName, feedbackItemDto);
+        }
+        PendingFeedbackItem pending = new PendingFeedbackItem(feedbackItemDto, new CompletableFuture<>());
+        boolean[] startDrain = { false };
+        pendingByRetrospective.compute(retrospectiveName, (name, queue) -> {
+            if (queue == null) {
+                queue = new ArrayList<>();
+                startDrain[0] = true;
+            }
+            queue.add(pending);
+            return queue;
+        });
+        if (startDrain[0]) {
+            try {
+                drains.execute(() -> drain(retrospectiveName));
+            } catch (RejectedExecutionException ex) {
+                failPending(retrospectiveName, ex);
+            }
+        }
+        try {
+            try {
+                return pending.result().get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException ex) {
+                boolean[] withdrawn = { false };
+                pendingByRetrospective.computeIfPresent(retrospectiveName, (name, queue) -> {
+                    withdrawn[0] = queue.remove(pending);
+                    return queue;
+                });
+                if (withdrawn[0]) {
+                    throw new FeedbackWriteTimeoutException("Timed out adding feedback to " + retrospectiveName);
+                }
+                // its batch is committing; the drain completes it either way
+                return pending.result().get();
+            }
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while adding feedback to " + retrospectiveName, ex);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        drains.close();
+    }
+
+    /**
+     * Commits the pending items of a retrospective batch by batch until there are
+     * none left. The queue stays registered while a batch commits, so that items
+     * posted meanwhile are picked up here instead of starting a second drain. If
+     * the drain itself fails, every item it still holds or that is queued fails
+     * with it and the queue is dropped, so the next post starts a new drain.
+     */
+    private void drain(String retrospectiveName) {
+        List<PendingFeedbackItem> batch = new ArrayList<>();
+        try {
+            try {
+                Thread.sleep(window);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            while (true) {
+                batch.clear();
+                pendingByRetrospective.computeIfPresent(retrospectiveName, (name, queue) -> {
+                    if (queue.isEmpty()) {
+                        return null;
+                    }
+                    List<PendingFeedbackItem> taken = queue.subList(0, Math.min(maxBatchSize, queue.size()));
+                    batch.addAll(taken);
+                    taken.clear();
+                    return queue;
+                });
+                if (batch.isEmpty()) {
+                    return;
+                }
+                commit(retrospectiveName, batch);
+            }
+        } catch (Throwable ex) {
+            log.error("Adding feedback to retrospective '{}' failed", retrospectiveName, ex);
+            batch.forEach(pending -> pending.result().completeExceptionally(ex));
+            failPending(retrospectiveName, ex);
+            if (ex instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+
+    /**
+     * Drops the queue of a retrospective and fails the items in it.
+     */
+    private void failPending(String retrospectiveName, Throwable cause) {
+        List<PendingFeedbackItem> queue = pendingByRetrospective.remove(retrospectiveName);
+        if (queue != null) {
+            queue.forEach(pending -> pending.result().completeExceptionally(cause));
+        }
+    }
+
+    private void commit(String retrospectiveName, List<PendingFeedbackItem> batch) {
+        batchSizes.record(batch.size());
+        if (batch.size() == 1) {
+            commitEach(retrospectiveName, batch);
+            return;
+        }
+        try {
+            List<FeedbackItemDto> created = retrospectiveService.addFeedbackItems(retrospectiveName,
+                    batch.stream().map(PendingFeedbackItem::feedbackItemDto).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(created.get(i));
+            }
+        } catch (RetrospectiveNotFoundException ex) {
+            batch.forEach(pending -> pending.result().completeExceptionally(ex));
+        } catch (RuntimeException ex) {
+            log.warn("Adding {} feedback items to retrospective '{}' failed, adding them one by one: {}",
+                    batch.size(), retrospectiveName, ex.toString());
+            commitEach(retrospectiveName, batch);
+        }
+    }
+
+    private void commitEach(String retrospectiveName, List<PendingFeedbackItem> batch) {
+        for (PendingFeedbackItem pending : batch) {
+            try {
+                pending.result().complete(
+                        retrospectiveService.addFeedbackItem(retrospectiveName, pending.feedbackItemDto()));
+            } catch (RuntimeException ex) {
+                pending.result().completeExceptionally(ex);
+            }
+        }
+    }
+
+    /**
+     * A feedback item waiting to be added, and the result its caller waits for.
+     */
+    private record PendingFeedbackItem(FeedbackItemDto feedbackItemDto, CompletableFuture<FeedbackItemDto> result) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.assignment.retrospectiveservice.service;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import com.assignment.retrospectiveservice.config.CacheConfig;
+import com.assignment.retrospectiveservice.dto.RetrospectiveDto;
+import com.assignment.retrospectiveservice.exception.IdempotencyKeyReusedException;
+import com.assignment.retrospectiveservice.exception.RetrospectiveAlreadyExistsException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates retrospectives at most once per {@code Idempotency-Key}, so that a
+ * client whose create request timed out can send it again without first
+ * reading whether it went through.
+ * <p>
+ * The first request with a key creates the retrospective; retries with the
+ * same key and body get the same created retrospective back without touching
+ * the database. Concurrent requests with one key wait for the first of them.
+ * Keys are remembered in a bounded cache, see
+ * {@link CacheConfig#IDEMPOTENT_CREATIONS}; failed creations are not
+ * remembered, so a retry after an error is attempted again.
+ */
+@Service
+@Slf4j
+public class IdempotentRetrospectiveCreator {
+
+    private final RetrospectiveService retrospectiveService;
+    private final Cache cache;
+
+    public IdempotentRetrospectiveCreator(RetrospectiveService retrospectiveService, CacheManager cacheManager) {
+        this.retrospectiveService = retrospectiveService;
+        this.cache = cacheManager.getCache(CacheConfig.IDEMPOTENT_CREATIONS);
+    }
+
+    /**
+     * Creates a new retrospective, unless it was created before with the same
+     * idempotency key.
+     *
+     * @param idempotencyKey   The client chosen key of the creation.
+     * @param retrospectiveDto The data for the new retrospective.
+     * @return The created retrospective.
+     * @throws RetrospectiveAlreadyExistsException If a retrospective with the same
+     *                                             name already exists.
+     * @throws IdempotencyKeyReusedException       If the key was used to create a
+     *                                             different retrospective.
+     */
+    public RetrospectiveDto createRetrospective(String idempotencyKey, RetrospectiveDto retrospectiveDto) {
+        IdempotentCreation creation;
+        try {
+            creation = cache.get(idempotencyKey, () -> new IdempotentCreation(retrospectiveDto,
+                    retrospectiveService.createRetrospective(retrospectiveDto)));
+        } catch (Cache.ValueRetrievalException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+        if (!creation.request().equals(retrospectiveDto)) {
+            throw new IdempotencyKeyReusedException(
+                    "Idempotency key was already used to create a different retrospective.");
+        }
+        if (creation.request() != retrospectiveDto) {
+            log.debug("Replaying creation of retrospective: {}", creation.created().getName());
+        }
+        return creation.created();
+    }
+
+    /**
+     * A creation request and its result.
+     */
+    private record IdempotentCreation(RetrospectiveDto request, RetrospectiveDto created) {
+    }
+}
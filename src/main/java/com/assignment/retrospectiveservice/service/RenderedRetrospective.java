@@ -0,0 +1,42 @@
+package com.assignment.retrospectiveservice.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.http.MediaType;
+
+import com.assignment.retrospectiveservice.repository.RetrospectiveRevision;
+
+/**
+ * Response bodies of one revision of a retrospective, rendered in one or more
+ * media types. Immutable, so that the cache can weigh it once when it is put.
+ *
+ * @param revision The id and revision of the retrospective the bodies were
+ *                 rendered from.
+ * @param bodies   The rendered bodies, by media type.
+ */
+public record RenderedRetrospective(RetrospectiveRevision revision, Map<MediaType, byte[]> bodies) {
+
+    /**
+     * Returns a copy with one more rendered body, replacing the body of the same
+     * media type if there is one.
+     *
+     * @param mediaType The media type of the body.
+     * @param body      The rendered body.
+     * @return The extended copy.
+     */
+    public RenderedRetrospective with(MediaType mediaType, byte[] body) {
+        Map<MediaType, byte[]> extended = new HashMap<>(bodies);
+        extended.put(mediaType, body);
+        return new RenderedRetrospective(revision, Map.copyOf(extended));
+    }
+
+    /**
+     * The number of rendered bytes, which is what the cache is bounded by.
+     *
+     * @return The total size of the bodies.
+     */
+    public int weight() {
+        return bodies.values().stream().mapToInt(body -> body.length).sum();
+    }
+}
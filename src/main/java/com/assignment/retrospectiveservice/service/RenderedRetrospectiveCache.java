@@ -0,0 +1,183 @@
+package com.assignment.retrospectiveservice.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.stereotype.Service;
+
+import com.assignment.retrospectiveservice.config.CacheConfig;
+import com.assignment.retrospectiveservice.dto.RetrospectiveDto;
+import com.assignment.retrospectiveservice.repository.RetrospectiveRevision;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rendered response bodies of retrospectives, per media type, so that reads of
+ * a cached retrospective write its bytes as they are instead of loading,
+ * mapping and serializing it again.
+ * <p>
+ * Only retrospectives dated more than {@code retrospective.rendered-cache.min-age}
+ * ago are kept, since past retrospectives are rarely written to any more.
+ * Entries are evicted by name on every feedback write, like the retrospective
+ * DTOs, and are only served for the revision they were rendered from. Bodies
+ * are rendered by the same message converters as the other responses, so they
+ * are byte for byte what the converters would write.
+ */
+@Service
+@Slf4j
+public class RenderedRetrospectiveCache {
+
+    private static final Map<MediaType, Envelope> ENVELOPES = Map.of(
+            MediaType.APPLICATION_JSON, new Envelope("[", ",", "]"),
+            MediaType.APPLICATION_XML, new Envelope("<retrospectives>", "", "</retrospectives>"),
+            // an indefinite-length array, closed by the "break" byte
+            MediaType.APPLICATION_CBOR, new Envelope(new byte[] { (byte) 0x9f }, new byte[0],
+                    new byte[] { (byte) 0xff }));
+
+    private final Cache cache;
+    private final List<HttpMessageConverter<?>> messageConverters;
+    private final Period minAge;
+
+    public RenderedRetrospectiveCache(CacheManager cacheManager, HttpMessageConverters httpMessageConverters,
+            @Value("${retrospective.rendered-cache.min-age:14d}") Period minAge) {
+        this.cache = cacheManager.getCache(CacheConfig.RENDERED_RETROSPECTIVES);
+        this.messageConverters = httpMessageConverters.getConverters();
+        this.minAge = minAge;
+    }
+
+    /**
+     * Returns the body of a retrospective in the given media type, rendering it
+     * unless a body of the current revision is cached. A rendered body is stored
+     * under the revision it was loaded at, which may be newer than the given
+     * one.
+     *
+     * @param retrospectiveName The name of the retrospective.
+     * @param revision          The current id and revision of the retrospective.
+     * @param mediaType         The media type to render.
+     * @param retrospective     Loads the retrospective when it has to be rendered.
+     * @return The rendered bodies, with one of the given media type, and the
+     *         revision they were rendered from.
+     */
+    public RenderedRetrospective render(String retrospectiveName, RetrospectiveRevision revision,
+            MediaType mediaType, Supplier<RevisedRetrospective> retrospective) {
+        RenderedRetrospective rendered = cache.get(retrospectiveName, RenderedRetrospective.class);
+        if (rendered != null && rendered.revision().equals(revision) && rendered.bodies().containsKey(mediaType)) {
+            return rendered;
+        }
+        RevisedRetrospective revisedRetrospective = retrospective.get();
+        RetrospectiveDto retrospectiveDto = revisedRetrospective.retrospective();
+        byte[] body = write(retrospectiveDto, mediaType);
+        if (rendered == null || !rendered.revision().equals(revisedRetrospective.revision())) {
+            rendered = new RenderedRetrospective(revisedRetrospective.revision(), Map.of());
+        }
+        rendered = rendered.with(mediaType, body);
+        if (isSettled(retrospectiveDto)) {
+            log.debug("Caching {} rendering of retrospective '{}' ({} bytes)", mediaType, retrospectiveName,
+                    body.length);
+            cache.put(retrospectiveName, rendered);
+        }
+        return rendered;
+    }
+
+    /**
+     * Whether rendered bodies of the given media type can be joined into a list
+     * by {@link #concatenate(List, MediaType)}. Smile cannot: each document
+     * carries its own header and back references.
+     *
+     * @param mediaType The media type of the bodies.
+     * @return true if the bodies can be concatenated
+     */
+    public boolean canConcatenate(MediaType mediaType) {
+        return ENVELOPES.containsKey(mediaType);
+    }
+
+    /**
+     * Joins rendered bodies into a single list: a JSON array, a
+     * {@code retrospectives} XML element or a CBOR array.
+     *
+     * @param bodies    The rendered bodies.
+     * @param mediaType Their media type, for which
+     *                  {@link #canConcatenate(MediaType)} holds.
+     * @return The list.
+     */
+    public byte[] concatenate(List<byte[]> bodies, MediaType mediaType) {
+        Envelope envelope = ENVELOPES.get(mediaType);
+        ByteArrayOutputStream list = new ByteArrayOutputStream(
+                bodies.stream().mapToInt(body -> body.length + envelope.separator().length).sum()
+                        + envelope.start().length + envelope.end().length);
+        list.writeBytes(envelope.start());
+        for (int i = 0; i < bodies.size(); i++) {
+            if (i > 0) {
+                list.writeBytes(envelope.separator());
+            }
+            list.writeBytes(bodies.get(i));
+        }
+        list.writeBytes(envelope.end());
+        return list.toByteArray();
+    }
+
+    private boolean isSettled(RetrospectiveDto retrospectiveDto) {
+        return retrospectiveDto.getDate() != null
+                && retrospectiveDto.getDate().isBefore(LocalDate.now().minus(minAge));
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] write(RetrospectiveDto retrospectiveDto, MediaType mediaType) {
+        for (HttpMessageConverter<?> messageConverter : messageConverters) {
+            if (messageConverter.canWrite(RetrospectiveDto.class, mediaType)) {
+                BufferedOutputMessage outputMessage = new BufferedOutputMessage();
+                try {
+                    ((HttpMessageConverter<Object>) messageConverter).write(retrospectiveDto, mediaType,
+                            outputMessage);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                return outputMessage.body.toByteArray();
+            }
+        }
+        throw new IllegalStateException("No message converter writes " + mediaType);
+    }
+
+    /**
+     * Bytes written before, between and after the bodies of a list.
+     */
+    private record Envelope(byte[] start, byte[] separator, byte[] end) {
+
+        Envelope(String start, String separator, String end) {
+            this(start.getBytes(StandardCharsets.UTF_8), separator.getBytes(StandardCharsets.UTF_8),
+                    end.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static final class BufferedOutputMessage implements HttpOutputMessage {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private final HttpHeaders headers = new HttpHeaders();
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.assignment.retrospectiveservice.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import com.assignment.retrospectiveservice.dto.RetrospectiveFields;
+import com.assignment.retrospectiveservice.repository.RetrospectiveRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loads the most recent retrospectives, with their participants and feedback
+ * items, and their revisions through {@link RetrospectiveService} when the
+ * application starts, so that they are served from the caches from the first
+ * request on. Enabled by {@code retrospective.warm-up.enabled}, which the
+ * {@code persistent} profile sets; an in-memory database starts empty.
+ * <p>
+ * Runs before the application reports itself ready to accept traffic.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "retrospective.warm-up.enabled")
+public class RetrospectiveCacheWarmer implements ApplicationRunner {
+
+    private final RetrospectiveRepository retrospectiveRepository;
+    private final RetrospectiveService retrospectiveService;
+    private final int retrospectives;
+
+    public RetrospectiveCacheWarmer(RetrospectiveRepository retrospectiveRepository,
+            RetrospectiveService retrospectiveService,
+            @Value("${retrospective.warm-up.retrospectives:100}") int retrospectives) {
+        this.retrospectiveRepository = retrospectiveRepository;
+        this.retrospectiveService = retrospectiveService;
+        this.retrospectives = retrospectives;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        warmUp();
+    }
+
+    /**
+     * Loads the most recent retrospectives into the caches.
+     *
+     * @return The number of loaded retrospectives.
+     */
+    public int warmUp() {
+        long start = System.nanoTime();
+        List<String> names = retrospectiveRepository.findFirstNames(Limit.of(retrospectives));
+        for (String name : names) {
+            retrospectiveService.getRetrospectiveRevision(name);
+            retrospectiveService.getRevisedRetrospective(name, RetrospectiveFields.ALL);
+        }
+        log.info("Warmed up the caches with {} retrospectives in {} ms", names.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return names.size();
+    }
+}
@@ -0,0 +1,45 @@
+package com.assignment.retrospectiveservice.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.assignment.retrospectiveservice.exception.InvalidCursorException;
+
+/**
+ * Position of the last retrospective of a page in the (date desc, id desc)
+ * ordering used by cursor pagination. Encoded as an opaque URL-safe token.
+ */
+record RetrospectiveCursor(LocalDate date, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Encodes this cursor as an opaque token.
+     *
+     * @return the token
+     */
+    String encode() {
+        String value = date.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token created by {@link #encode()}.
+     *
+     * @param token the token
+     * @return the cursor
+     * @throws InvalidCursorException if the token is malformed
+     */
+    static RetrospectiveCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            return new RetrospectiveCursor(LocalDate.parse(value.substring(0, separator)),
+                    UUID.fromString(value.substring(separator + 1)));
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException("Invalid cursor: " + token);
+        }
+    }
+}
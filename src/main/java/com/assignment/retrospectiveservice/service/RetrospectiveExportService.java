@@ -0,0 +1,114 @@
+package com.assignment.retrospectiveservice.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import javax.xml.namespace.QName;
+
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Service;
+
+import com.assignment.retrospectiveservice.dto.RetrospectiveDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes all retrospectives to an output stream, one retrospective at a time,
+ * as they are exported by {@link RetrospectiveService}. Nothing but the
+ * retrospective being written is held in memory. The JSON and XML mappers are
+ * configured like the ones of the HTTP message converters, so exported
+ * retrospectives look the same as the ones returned by the other endpoints.
+ */
+@Service
+@Slf4j
+public class RetrospectiveExportService {
+
+    private static final QName XML_ROOT_ELEMENT = new QName("retrospectives");
+    private static final String XML_RETROSPECTIVE_ELEMENT = "retrospective";
+
+    private final RetrospectiveService retrospectiveService;
+    private final ObjectMapper jsonMapper;
+    private final XmlMapper xmlMapper;
+
+    public RetrospectiveExportService(RetrospectiveService retrospectiveService, ObjectMapper objectMapper,
+            Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        this.retrospectiveService = retrospectiveService;
+        this.jsonMapper = objectMapper;
+        this.xmlMapper = objectMapperBuilder.createXmlMapper(true).build();
+    }
+
+    /**
+     * Writes all retrospectives as newline delimited JSON, one retrospective per
+     * line. The output stream is not closed.
+     *
+     * @param outputStream The stream to write to.
+     * @return The number of exported retrospectives.
+     * @throws IOException If writing to the stream fails.
+     */
+    public long writeNdjson(OutputStream outputStream) throws IOException {
+        ObjectWriter writer = jsonMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = jsonMapper.getFactory().createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            // lines are terminated explicitly instead of separated by the default space
+            generator.setRootValueSeparator(null);
+            long exported = export(retrospectiveDto -> {
+                writer.writeValue(generator, retrospectiveDto);
+                generator.writeRaw('\n');
+            });
+            log.debug("Wrote {} retrospectives as NDJSON", exported);
+            return exported;
+        }
+    }
+
+    /**
+     * Writes all retrospectives as a single XML document with one
+     * {@code retrospective} element per retrospective under a
+     * {@code retrospectives} root element. The output stream is not closed.
+     *
+     * @param outputStream The stream to write to.
+     * @return The number of exported retrospectives.
+     * @throws IOException If writing to the stream fails.
+     */
+    public long writeXml(OutputStream outputStream) throws IOException {
+        ObjectWriter writer = xmlMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (ToXmlGenerator generator = xmlMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setNextName(XML_ROOT_ELEMENT);
+            generator.writeStartObject();
+            long exported = export(retrospectiveDto -> {
+                generator.writeFieldName(XML_RETROSPECTIVE_ELEMENT);
+                writer.writeValue(generator, retrospectiveDto);
+            });
+            generator.writeEndObject();
+            log.debug("Wrote {} retrospectives as XML", exported);
+            return exported;
+        }
+    }
+
+    private long export(RetrospectiveWriter retrospectiveWriter) throws IOException {
+        try {
+            return retrospectiveService.exportRetrospectives(retrospectiveDto -> {
+                try {
+                    retrospectiveWriter.write(retrospectiveDto);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface RetrospectiveWriter {
+
+        void write(RetrospectiveDto retrospectiveDto) throws IOException;
+    }
+}
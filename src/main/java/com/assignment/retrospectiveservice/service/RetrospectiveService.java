@@ -1,121 +1,331 @@
 package com.assignment.retrospectiveservice.service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import org.modelmapper.ModelMapper;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import com.assignment.retrospectiveservice.config.CacheConfig;
+import com.assignment.retrospectiveservice.config.MetricsConfig;
+import com.assignment.retrospectiveservice.dto.CursorPageDto;
 import com.assignment.retrospectiveservice.dto.FeedbackItemDto;
+import com.assignment.retrospectiveservice.dto.FeedbackStatsDto;
+import com.assignment.retrospectiveservice.dto.ParticipantFeedbackStatsDto;
 import com.assignment.retrospectiveservice.dto.RetrospectiveDto;
+import com.assignment.retrospectiveservice.dto.RetrospectiveFields;
+import com.assignment.retrospectiveservice.dto.RetrospectiveSummaryDto;
+import com.assignment.retrospectiveservice.exception.FeedbackItemConflictException;
 import com.assignment.retrospectiveservice.exception.FeedbackItemNotFoundException;
+import com.assignment.retrospectiveservice.exception.InvalidCursorException;
+import com.assignment.retrospectiveservice.exception.InvalidPageRequestException;
 import com.assignment.retrospectiveservice.exception.RetrospectiveAlreadyExistsException;
 import com.assignment.retrospectiveservice.exception.RetrospectiveNotFoundException;
+import com.assignment.retrospectiveservice.mapper.RetrospectiveMapper;
 import com.assignment.retrospectiveservice.model.FeedbackItem;
+import com.assignment.retrospectiveservice.model.FeedbackTally;
+import com.assignment.retrospectiveservice.model.FeedbackType;
 import com.assignment.retrospectiveservice.model.Retrospective;
+import com.assignment.retrospectiveservice.repository.FeedbackItemRepository;
+import com.assignment.retrospectiveservice.repository.FeedbackTallyRepository;
 import com.assignment.retrospectiveservice.repository.RetrospectiveRepository;
+import com.assignment.retrospectiveservice.repository.RetrospectiveRevision;
+import com.assignment.retrospectiveservice.search.FeedbackDocument;
+import com.assignment.retrospectiveservice.search.FeedbackItemsChangedEvent;
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Slf4j
 @AllArgsConstructor
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class RetrospectiveService {
 
+    /**
+     * Number of streamed retrospectives whose collections are loaded, exported
+     * and then cleared from the persistence context together.
+     */
+    private static final int EXPORT_CHUNK_SIZE = 100;
+
+    /**
+     * Largest number of retrospectives returned by one cursor page or one
+     * request by name.
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final RetrospectiveRepository retrospectiveRepository;
-    private final ModelMapper modelMapper;
+    private final FeedbackItemRepository feedbackItemRepository;
+    private final FeedbackTallyRepository feedbackTallyRepository;
+    private final RetrospectiveMapper retrospectiveMapper;
+    private final EntityManager entityManager;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * Creates a new retrospective.
+     * Creates a new retrospective. The name is not looked up first: the insert is
+     * flushed right away and a duplicate name is reported by the unique
+     * constraint on it, which also holds for concurrent creators.
      *
      * @param retrospectiveDto The data for the new retrospective.
      * @return The created retrospective.
      * @throws RetrospectiveAlreadyExistsException If a retrospective with the same
      *                                             name already exists.
      */
+    @Transactional
     public RetrospectiveDto createRetrospective(RetrospectiveDto retrospectiveDto) {
-        log.info("Creating retrospective: {}", retrospectiveDto);
-        // Check if a retrospective with the same name already exists
-        Optional<Retrospective> existingRetrospective = retrospectiveRepository.findByName(retrospectiveDto.getName());
-        if (existingRetrospective.isPresent()) {
-            throw new RetrospectiveAlreadyExistsException("Retrospective with the given name already exists.");
-        }
-        Retrospective retrospective = modelMapper.map(retrospectiveDto, Retrospective.class);
-        retrospective = retrospectiveRepository.save(retrospective);
+        log.debug("Creating retrospective: {}", retrospectiveDto.getName());
+        Retrospective retrospective = retrospectiveMapper.toEntity(retrospectiveDto);
+        try {
+            retrospective = retrospectiveRepository.saveAndFlush(retrospective);
+        } catch (DataIntegrityViolationException ex) {
+            if (violates(ex, Retrospective.UNIQUE_NAME_CONSTRAINT)) {
+                throw new RetrospectiveAlreadyExistsException("Retrospective with the given name already exists.");
+            }
+            throw ex;
+        }
+        tallyFeedbackItems(retrospective.getId(), retrospective.getFeedbackItems());
+        publishFeedbackItemsChanged(retrospective.getId(), retrospective.getFeedbackItems());
         log.debug("Retrospective created successfully");
-        return modelMapper.map(retrospective, RetrospectiveDto.class);
+        return retrospectiveMapper.toDto(retrospective);
+    }
+
+    /**
+     * Retrieves the selected fields of a retrospective, together with the id and
+     * revision it was read at, so that both describe the same state. Participants
+     * and feedback items are only loaded when selected. Selections that include
+     * the feedback items, the bulk of a retrospective, are cached by name with
+     * every field until a feedback write to the retrospective evicts them.
+     *
+     * @param retrospectiveName The name of the retrospective.
+     * @param fields            The selected fields.
+     * @return The retrospective, with at least the selected fields, and its
+     *         revision.
+     * @throws RetrospectiveNotFoundException If the retrospective with the given
+     *                                        name is not found.
+     */
+    @Cacheable(cacheNames = CacheConfig.RETROSPECTIVES, key = "#retrospectiveName",
+            condition = "#fields.includes('feedbackItems')", sync = true)
+    @Transactional(readOnly = true)
+    public RevisedRetrospective getRevisedRetrospective(String retrospectiveName, RetrospectiveFields fields) {
+        log.info("Fetching retrospective: {} (fields={})", retrospectiveName, fields);
+        boolean cached = fields.includes(RetrospectiveFields.FEEDBACK_ITEMS);
+        Optional<Retrospective> optionalRetrospective = cached || fields.includes(RetrospectiveFields.PARTICIPANTS)
+                ? retrospectiveRepository.findWithParticipantsByName(retrospectiveName)
+                : retrospectiveRepository.findByName(retrospectiveName);
+        if (optionalRetrospective.isEmpty()) {
+            log.error("Retrospective not found: {}", retrospectiveName);
+            throw new RetrospectiveNotFoundException("Retrospective not found: " + retrospectiveName);
+        }
+        Retrospective retrospective = optionalRetrospective.get();
+        return new RevisedRetrospective(new RetrospectiveRevision(retrospective.getId(), retrospective.getRevision()),
+                toDto(retrospective, cached ? RetrospectiveFields.ALL : fields));
+    }
+
+    /**
+     * Retrieves the id and revision of a retrospective, which change whenever its
+     * representation does. Results are cached by name until a feedback write to
+     * the retrospective evicts them.
+     *
+     * @param retrospectiveName The name of the retrospective.
+     * @return The id and revision of the retrospective.
+     * @throws RetrospectiveNotFoundException If the retrospective with the given
+     *                                        name is not found.
+     */
+    @Cacheable(cacheNames = CacheConfig.RETROSPECTIVE_REVISIONS, key = "#retrospectiveName", sync = true)
+    @Transactional(readOnly = true)
+    public RetrospectiveRevision getRetrospectiveRevision(String retrospectiveName) {
+        return retrospectiveRepository.findRevisionByName(retrospectiveName).orElseThrow(() -> {
+            log.error("Retrospective not found: {}", retrospectiveName);
+            return new RetrospectiveNotFoundException("Retrospective not found: " + retrospectiveName);
+        });
     }
 
     /**
-     * Adds a feedback item to a retrospective.
+     * Adds a feedback item to a retrospective. Only the new row is inserted; the
+     * rest of the retrospective is neither loaded nor rewritten.
      *
      * @param retrospectiveName The name of the retrospective.
      * @param feedbackItemDto   The feedback item data.
-     * @return The updated retrospective.
+     * @return The created feedback item, including its generated id.
      * @throws RetrospectiveNotFoundException If the retrospective with the given
      *                                        name is not found.
      */
-    public RetrospectiveDto addFeedbackItem(String retrospectiveName, FeedbackItemDto feedbackItemDto) {
-        log.info("Adding feedback item to retrospective: {}", retrospectiveName);
-        Optional<Retrospective> optionalRetrospective = retrospectiveRepository.findByName(retrospectiveName);
-        if (optionalRetrospective.isPresent()) {
-            Retrospective retrospective = optionalRetrospective.get();
-            FeedbackItem feedbackItem = modelMapper.map(feedbackItemDto, FeedbackItem.class);
-            retrospective.getFeedbackItems().add(feedbackItem);
-            retrospective = retrospectiveRepository.save(retrospective);
-            log.debug("Feedback item added successfully to retrospective: {}", retrospectiveName);
-            return modelMapper.map(retrospective, RetrospectiveDto.class);
-        } else {
+    @Transactional
+    @CacheEvict(cacheNames = { CacheConfig.RETROSPECTIVES, CacheConfig.RETROSPECTIVE_REVISIONS,
+            CacheConfig.RENDERED_RETROSPECTIVES }, key = "#retrospectiveName")
+    public FeedbackItemDto addFeedbackItem(String retrospectiveName, FeedbackItemDto feedbackItemDto) {
+        log.debug("Adding feedback item to retrospective: {}", retrospectiveName);
+        Optional<UUID> retrospectiveId = retrospectiveRepository.findIdByName(retrospectiveName);
+        if (retrospectiveId.isEmpty()) {
             log.error("Retrospective not found: {}", retrospectiveName);
             throw new RetrospectiveNotFoundException("Retrospective not found: " + retrospectiveName);
         }
+        FeedbackItem feedbackItem = retrospectiveMapper.toEntity(feedbackItemDto);
+        feedbackItem.setRetrospective(retrospectiveRepository.getReferenceById(retrospectiveId.get()));
+        feedbackItem = feedbackItemRepository.save(feedbackItem);
+        feedbackTallyRepository.addToTally(retrospectiveId.get(), feedbackItem.getName(),
+                feedbackItem.getFeedbackType(), 1);
+        retrospectiveRepository.incrementRevision(retrospectiveId.get());
+        publishFeedbackItemsChanged(retrospectiveId.get(), List.of(feedbackItem));
+        countFeedbackItem(MetricsConfig.FEEDBACK_ADDED, feedbackItem.getFeedbackType());
+        log.debug("Feedback item {} added successfully to retrospective: {}", feedbackItem.getId(),
+                retrospectiveName);
+        return retrospectiveMapper.toDto(feedbackItem);
     }
 
     /**
-     * Updates a feedback item in a retrospective.
+     * Adds several feedback items to a retrospective in one transaction. The
+     * inserts are sent to the database as JDBC batches.
+     *
+     * @param retrospectiveName The name of the retrospective.
+     * @param feedbackItemDtos  The feedback items data.
+     * @return The created feedback items, in the given order.
+     * @throws RetrospectiveNotFoundException If the retrospective with the given
+     *                                        name is not found.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = { CacheConfig.RETROSPECTIVES, CacheConfig.RETROSPECTIVE_REVISIONS,
+            CacheConfig.RENDERED_RETROSPECTIVES }, key = "#retrospectiveName")
+    public List<FeedbackItemDto> addFeedbackItems(String retrospectiveName, List<FeedbackItemDto> feedbackItemDtos) {
+        log.debug("Adding {} feedback items to retrospective: {}", feedbackItemDtos.size(), retrospectiveName);
+        Optional<UUID> retrospectiveId = retrospectiveRepository.findIdByName(retrospectiveName);
+        if (retrospectiveId.isEmpty()) {
+            log.error("Retrospective not found: {}", retrospectiveName);
+            throw new RetrospectiveNotFoundException("Retrospective not found: " + retrospectiveName);
+        }
+        Retrospective retrospective = retrospectiveRepository.getReferenceById(retrospectiveId.get());
+        List<FeedbackItem> feedbackItems = feedbackItemDtos.stream()
+                .map(retrospectiveMapper::toEntity)
+                .peek(feedbackItem -> feedbackItem.setRetrospective(retrospective))
+                .collect(Collectors.toList());
+        feedbackItems = feedbackItemRepository.saveAll(feedbackItems);
+        tallyFeedbackItems(retrospectiveId.get(), feedbackItems);
+        retrospectiveRepository.incrementRevision(retrospectiveId.get());
+        publishFeedbackItemsChanged(retrospectiveId.get(), feedbackItems);
+        feedbackItems.forEach(
+                feedbackItem -> countFeedbackItem(MetricsConfig.FEEDBACK_ADDED, feedbackItem.getFeedbackType()));
+        log.debug("{} feedback items added successfully to retrospective: {}", feedbackItems.size(),
+                retrospectiveName);
+        return feedbackItems.stream().map(retrospectiveMapper::toDto).collect(Collectors.toList());
+    }
+
+    /**
+     * Updates a feedback item in a retrospective. Only the addressed row is read
+     * and written, guarded by its version column: if another update commits
+     * between the read and the write, this one fails with an
+     * {@link org.springframework.dao.OptimisticLockingFailureException} and can
+     * be retried, see {@link FeedbackItemUpdateRetrier}.
      *
      * @param retrospectiveName The name of the retrospective.
      * @param feedbackItemId    The ID of the feedback item to update.
      * @param feedbackItemDto   The updated feedback item data.
-     * @return The updated retrospective.
+     * @return The updated feedback item.
      * @throws RetrospectiveNotFoundException If the retrospective with the given
      *                                        name is not found.
      * @throws FeedbackItemNotFoundException  If the feedback item with the given ID
      *                                        is not found in the retrospective.
+     * @throws FeedbackItemConflictException  If the update carries a version and
+     *                                        the feedback item has changed since.
      */
-    public RetrospectiveDto updateFeedbackItem(String retrospectiveName, String feedbackItemId,
+    @Transactional
+    @CacheEvict(cacheNames = { CacheConfig.RETROSPECTIVES, CacheConfig.RETROSPECTIVE_REVISIONS,
+            CacheConfig.RENDERED_RETROSPECTIVES }, key = "#retrospectiveName")
+    public FeedbackItemDto updateFeedbackItem(String retrospectiveName, String feedbackItemId,
             FeedbackItemDto feedbackItemDto) {
-        log.info("Updating feedback item {} for retrospective: {}", feedbackItemId, retrospectiveName);
-        Optional<Retrospective> optionalRetrospective = retrospectiveRepository.findByName(retrospectiveName);
-        if (optionalRetrospective.isPresent()) {
-            Retrospective retrospective = optionalRetrospective.get();
-            List<FeedbackItem> feedbackItems = retrospective.getFeedbackItems();
-            boolean found = false;
-            for (FeedbackItem item : feedbackItems) {
-                if (item.getId().toString().equals(feedbackItemId)) {
-                    modelMapper.map(feedbackItemDto, item);
-                    found = true;
-                    break;
-                }
-            }
-            if (!found) {
-                log.error("Feedback item not found: {}", feedbackItemId);
-                throw new FeedbackItemNotFoundException("Feedback item not found: " + feedbackItemId);
-            }
-            retrospective = retrospectiveRepository.save(retrospective);
-            log.debug("Feedback item {} updated for retrospective: {}", feedbackItemId, retrospectiveName);
-            return modelMapper.map(retrospective, RetrospectiveDto.class);
-        } else {
+        log.debug("Updating feedback item {} for retrospective: {}", feedbackItemId, retrospectiveName);
+        Optional<UUID> retrospectiveId = retrospectiveRepository.findIdByName(retrospectiveName);
+        if (retrospectiveId.isEmpty()) {
             log.error("Retrospective not found: {}", retrospectiveName);
             throw new RetrospectiveNotFoundException("Retrospective not found: " + retrospectiveName);
         }
+        Optional<FeedbackItem> optionalFeedbackItem = parseFeedbackItemId(feedbackItemId)
+                .flatMap(id -> feedbackItemRepository.findByIdAndRetrospectiveId(id, retrospectiveId.get()));
+        if (optionalFeedbackItem.isEmpty()) {
+            log.error("Feedback item not found: {}", feedbackItemId);
+            throw new FeedbackItemNotFoundException("Feedback item not found: " + feedbackItemId);
+        }
+        FeedbackItem feedbackItem = optionalFeedbackItem.get();
+        if (feedbackItemDto.getVersion() != null && !feedbackItemDto.getVersion().equals(feedbackItem.getVersion())) {
+            log.warn("Feedback item {} is at version {}, not {}", feedbackItemId, feedbackItem.getVersion(),
+                    feedbackItemDto.getVersion());
+            throw new FeedbackItemConflictException("Feedback item was changed concurrently: " + feedbackItemId);
+        }
+        String previousName = feedbackItem.getName();
+        FeedbackType previousFeedbackType = feedbackItem.getFeedbackType();
+        retrospectiveMapper.updateFeedbackItem(feedbackItemDto, feedbackItem);
+        // flushed here so that the returned item carries its new version
+        feedbackItem = feedbackItemRepository.saveAndFlush(feedbackItem);
+        if (!Objects.equals(feedbackItem.getName(), previousName)
+                || feedbackItem.getFeedbackType() != previousFeedbackType) {
+            moveBetweenTallies(retrospectiveId.get(), previousName, previousFeedbackType, feedbackItem.getName(),
+                    feedbackItem.getFeedbackType());
+        }
+        retrospectiveRepository.incrementRevision(retrospectiveId.get());
+        publishFeedbackItemsChanged(retrospectiveId.get(), List.of(feedbackItem));
+        countFeedbackItem(MetricsConfig.FEEDBACK_UPDATED, feedbackItem.getFeedbackType());
+        log.debug("Feedback item {} updated for retrospective: {}", feedbackItemId, retrospectiveName);
+        return retrospectiveMapper.toDto(feedbackItem);
+    }
+
+    /**
+     * Retrieves the feedback counts of a retrospective, per type and per
+     * participant. The counts are read from the tallies kept up to date on every
+     * feedback write, so the cost does not depend on the number of feedback items.
+     *
+     * @param retrospectiveName The name of the retrospective.
+     * @return The feedback statistics of the retrospective.
+     * @throws RetrospectiveNotFoundException If the retrospective with the given
+     *                                        name is not found.
+     */
+    @Transactional(readOnly = true)
+    public FeedbackStatsDto getFeedbackStats(String retrospectiveName) {
+        log.debug("Fetching feedback statistics of retrospective: {}", retrospectiveName);
+        Optional<UUID> retrospectiveId = retrospectiveRepository.findIdByName(retrospectiveName);
+        if (retrospectiveId.isEmpty()) {
+            log.error("Retrospective not found: {}", retrospectiveName);
+            throw new RetrospectiveNotFoundException("Retrospective not found: " + retrospectiveName);
+        }
+        Map<FeedbackType, Long> feedbackCounts = emptyFeedbackCounts();
+        Map<String, Map<FeedbackType, Long>> feedbackCountsByParticipant = new TreeMap<>();
+        for (FeedbackTally tally : feedbackTallyRepository.findByRetrospectiveId(retrospectiveId.get())) {
+            FeedbackType feedbackType = tally.getId().getFeedbackType();
+            feedbackCounts.merge(feedbackType, tally.getItemCount(), Long::sum);
+            feedbackCountsByParticipant.computeIfAbsent(tally.getId().getName(), name -> emptyFeedbackCounts())
+                    .merge(feedbackType, tally.getItemCount(), Long::sum);
+        }
+        List<ParticipantFeedbackStatsDto> participants = feedbackCountsByParticipant.entrySet().stream()
+                .map(entry -> new ParticipantFeedbackStatsDto(entry.getKey(), total(entry.getValue()),
+                        entry.getValue()))
+                .collect(Collectors.toList());
+        return new FeedbackStatsDto(retrospectiveName, total(feedbackCounts), feedbackCounts, participants);
     }
 
     /**
@@ -125,33 +335,349 @@ public class RetrospectiveService {
      * @param pageSize The size of each page.
      * @return A page of retrospectives.
      */
+    @Transactional(readOnly = true)
     public Page<RetrospectiveDto> getAllRetrospectives(int page, int pageSize) {
+        return getRetrospectives(getRetrospectiveRevisions(page, pageSize), RetrospectiveFields.ALL);
+    }
+
+    /**
+     * Retrieves the ids and revisions of a page of retrospectives, newest first,
+     * without loading them. Together they change whenever the representation of
+     * the page does.
+     *
+     * @param page     The page number.
+     * @param pageSize The size of each page.
+     * @return A page of retrospective ids and revisions.
+     */
+    @Transactional(readOnly = true)
+    public Page<RetrospectiveRevision> getRetrospectiveRevisions(int page, int pageSize) {
         log.info("Fetching all retrospectives with pagination (page={}, pageSize={})", page, pageSize);
-        Pageable pageable = PageRequest.of(page, pageSize);
-        Page<Retrospective> retrospectivesPage = retrospectiveRepository.findAll(pageable);
-        List<RetrospectiveDto> retrospectiveDtos = retrospectivesPage.getContent().stream()
-                .map(retrospective -> modelMapper.map(retrospective, RetrospectiveDto.class))
-                .collect(Collectors.toList());
+        return retrospectiveRepository.findPageOfRevisions(PageRequest.of(page, pageSize));
+    }
+
+    /**
+     * Retrieves the retrospectives of a page of ids and revisions, as returned by
+     * {@link #getRetrospectiveRevisions(int, int)}.
+     *
+     * @param revisions The page of retrospective ids and revisions.
+     * @param fields    The selected fields.
+     * @return A page of retrospectives.
+     */
+    @Transactional(readOnly = true)
+    public Page<RetrospectiveDto> getRetrospectives(Page<RetrospectiveRevision> revisions,
+            RetrospectiveFields fields) {
+        Page<RetrospectiveDto> retrospectivesPage = loadPage(revisions.map(RetrospectiveRevision::id), fields);
         log.debug("Retrieved {} retrospectives", retrospectivesPage.getTotalElements());
-        return new PageImpl<>(retrospectiveDtos, pageable, retrospectivesPage.getTotalElements());
+        return retrospectivesPage;
     }
 
     /**
-     * Searches retrospectives by date with pagination.
+     * Searches retrospectives by date range with pagination, newest first.
      *
-     * @param date     The date to search for.
+     * @param from     The first date of the range, inclusive.
+     * @param to       The last date of the range, inclusive.
      * @param page     The page number.
      * @param pageSize The size of each page.
+     * @param fields   The selected fields.
      * @return A page of retrospectives.
      */
-    public Page<RetrospectiveDto> searchRetrospectivesByDate(LocalDate date, int page, int pageSize) {
-        log.info("Searching retrospectives by date (date={}, page={}, pageSize={})", date, page, pageSize);
+    @Transactional(readOnly = true)
+    public Page<RetrospectiveDto> searchRetrospectivesByDateRange(LocalDate from, LocalDate to, int page,
+            int pageSize, RetrospectiveFields fields) {
+        log.info("Searching retrospectives by date range (from={}, to={}, page={}, pageSize={})", from, to, page,
+                pageSize);
         Pageable pageable = PageRequest.of(page, pageSize);
-        Page<Retrospective> retrospectivesPage = retrospectiveRepository.findByDate(date, pageable);
-        List<RetrospectiveDto> retrospectiveDtos = retrospectivesPage.getContent().stream()
-                .map(retrospective -> modelMapper.map(retrospective, RetrospectiveDto.class))
+        Page<RetrospectiveDto> retrospectivesPage = loadPage(
+                retrospectiveRepository.findPageOfIdsByDateBetween(from, to, pageable), fields);
+        log.debug("Retrieved {} retrospectives for dates {} to {}", retrospectivesPage.getTotalElements(), from,
+                to);
+        return retrospectivesPage;
+    }
+
+    /**
+     * Retrieves summaries of all retrospectives with pagination, newest first.
+     *
+     * @param page     The page number.
+     * @param pageSize The size of each page.
+     * @return A page of retrospective summaries.
+     */
+    @Transactional(readOnly = true)
+    public Page<RetrospectiveSummaryDto> getRetrospectiveSummaries(int page, int pageSize) {
+        log.info("Fetching retrospective summaries with pagination (page={}, pageSize={})", page, pageSize);
+        Page<RetrospectiveSummaryDto> summariesPage = retrospectiveRepository
+                .findSummaries(PageRequest.of(page, pageSize));
+        log.debug("Retrieved {} retrospective summaries", summariesPage.getTotalElements());
+        return summariesPage;
+    }
+
+    /**
+     * Searches retrospective summaries by date range with pagination.
+     *
+     * @param from     The first date of the range, inclusive.
+     * @param to       The last date of the range, inclusive.
+     * @param page     The page number.
+     * @param pageSize The size of each page.
+     * @return A page of retrospective summaries.
+     */
+    @Transactional(readOnly = true)
+    public Page<RetrospectiveSummaryDto> searchRetrospectiveSummariesByDateRange(LocalDate from, LocalDate to,
+            int page, int pageSize) {
+        log.info("Searching retrospective summaries by date range (from={}, to={}, page={}, pageSize={})", from, to,
+                page, pageSize);
+        Page<RetrospectiveSummaryDto> summariesPage = retrospectiveRepository.findSummariesByDateBetween(from, to,
+                PageRequest.of(page, pageSize));
+        log.debug("Retrieved {} retrospective summaries for dates {} to {}", summariesPage.getTotalElements(), from,
+                to);
+        return summariesPage;
+    }
+
+    /**
+     * Retrieves all retrospectives with cursor (keyset) pagination, newest first.
+     * Unlike offset paging, the cost of a page does not grow with its depth.
+     *
+     * @param cursor       The cursor returned with the previous page, or null or
+     *                     empty for the first page.
+     * @param pageSize     The size of each page.
+     * @param includeTotal Whether to also count all retrospectives.
+     * @param fields       The selected fields.
+     * @return A page of retrospectives with the cursor of the next page.
+     * @throws InvalidCursorException      If the cursor cannot be decoded.
+     * @throws InvalidPageRequestException If the page size is not between 1 and
+     *                                     {@value #MAX_PAGE_SIZE}.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<RetrospectiveDto> scrollAllRetrospectives(String cursor, int pageSize,
+            boolean includeTotal, RetrospectiveFields fields) {
+        log.info("Fetching all retrospectives with cursor pagination (pageSize={})", pageSize);
+        checkPageSize(pageSize);
+        Limit limit = Limit.of(pageSize + 1);
+        List<UUID> ids;
+        if (StringUtils.hasText(cursor)) {
+            RetrospectiveCursor after = RetrospectiveCursor.decode(cursor);
+            ids = retrospectiveRepository.findIdsAfter(after.date(), after.id(), limit);
+        } else {
+            ids = retrospectiveRepository.findFirstIds(limit);
+        }
+        Long totalElements = includeTotal ? retrospectiveRepository.count() : null;
+        return toCursorPage(ids, pageSize, totalElements, fields);
+    }
+
+    /**
+     * Searches retrospectives by date range with cursor (keyset) pagination.
+     *
+     * @param from         The first date of the range, inclusive.
+     * @param to           The last date of the range, inclusive.
+     * @param cursor       The cursor returned with the previous page, or null or
+     *                     empty for the first page.
+     * @param pageSize     The size of each page.
+     * @param includeTotal Whether to also count the matching retrospectives.
+     * @param fields       The selected fields.
+     * @return A page of retrospectives with the cursor of the next page.
+     * @throws InvalidCursorException      If the cursor cannot be decoded.
+     * @throws InvalidPageRequestException If the page size is not between 1 and
+     *                                     {@value #MAX_PAGE_SIZE}.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<RetrospectiveDto> scrollRetrospectivesByDateRange(LocalDate from, LocalDate to,
+            String cursor, int pageSize, boolean includeTotal, RetrospectiveFields fields) {
+        log.info("Searching retrospectives by date range with cursor pagination (from={}, to={}, pageSize={})", from,
+                to, pageSize);
+        checkPageSize(pageSize);
+        Limit limit = Limit.of(pageSize + 1);
+        List<UUID> ids;
+        if (StringUtils.hasText(cursor)) {
+            RetrospectiveCursor after = RetrospectiveCursor.decode(cursor);
+            ids = retrospectiveRepository.findIdsByDateBetweenAfter(from, to, after.date(), after.id(), limit);
+        } else {
+            ids = retrospectiveRepository.findFirstIdsByDateBetween(from, to, limit);
+        }
+        Long totalElements = includeTotal ? retrospectiveRepository.countByDateBetween(from, to) : null;
+        return toCursorPage(ids, pageSize, totalElements, fields);
+    }
+
+    /**
+     * Exports all retrospectives, oldest first, handing each one to the given
+     * consumer as soon as it is mapped. Retrospectives are streamed from the
+     * database and processed in chunks: the collections of a chunk are loaded with
+     * one query each, and the chunk is cleared from the persistence context once
+     * exported, so memory use does not grow with the number of retrospectives.
+     *
+     * @param consumer Receives the exported retrospectives.
+     * @return The number of exported retrospectives.
+     */
+    @Transactional(readOnly = true)
+    public long exportRetrospectives(Consumer<RetrospectiveDto> consumer) {
+        log.info("Exporting all retrospectives");
+        long exported = 0;
+        try (Stream<Retrospective> retrospectives = retrospectiveRepository.streamAll()) {
+            Iterator<Retrospective> iterator = retrospectives.iterator();
+            List<UUID> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next().getId());
+                if (chunk.size() == EXPORT_CHUNK_SIZE || !iterator.hasNext()) {
+                    loadRetrospectives(chunk, RetrospectiveFields.ALL).forEach(
+                            retrospective -> consumer.accept(retrospectiveMapper.toDto(retrospective)));
+                    exported += chunk.size();
+                    chunk.clear();
+                    entityManager.clear();
+                }
+            }
+        }
+        log.debug("Exported {} retrospectives", exported);
+        return exported;
+    }
+
+    /**
+     * Loads the retrospectives of a page of ids with a fixed number of queries,
+     * one per selected collection, independent of the page size.
+     */
+    private Page<RetrospectiveDto> loadPage(Page<UUID> idPage, RetrospectiveFields fields) {
+        List<RetrospectiveDto> retrospectiveDtos = loadRetrospectives(idPage.getContent(), fields).stream()
+                .map(retrospective -> toDto(retrospective, fields))
                 .collect(Collectors.toList());
-        log.debug("Retrieved {} retrospectives for date {}", retrospectivesPage.getTotalElements(), date);
-        return new PageImpl<>(retrospectiveDtos, pageable, retrospectivesPage.getTotalElements());
+        return new PageImpl<>(retrospectiveDtos, idPage.getPageable(), idPage.getTotalElements());
+    }
+
+    private static void checkPageSize(int pageSize) {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new InvalidPageRequestException(
+                    "Page size must be between 1 and " + MAX_PAGE_SIZE + ", not " + pageSize);
+        }
+    }
+
+    /**
+     * Builds a cursor page from up to {@code pageSize + 1} ids; the extra id only
+     * signals that another page exists.
+     */
+    private CursorPageDto<RetrospectiveDto> toCursorPage(List<UUID> ids, int pageSize, Long totalElements,
+            RetrospectiveFields fields) {
+        boolean hasNext = ids.size() > pageSize;
+        List<Retrospective> retrospectives = loadRetrospectives(hasNext ? ids.subList(0, pageSize) : ids, fields);
+        String nextCursor = null;
+        if (hasNext) {
+            Retrospective last = retrospectives.get(retrospectives.size() - 1);
+            nextCursor = new RetrospectiveCursor(last.getDate(), last.getId()).encode();
+        }
+        List<RetrospectiveDto> retrospectiveDtos = retrospectives.stream()
+                .map(retrospective -> toDto(retrospective, fields))
+                .collect(Collectors.toList());
+        log.debug("Retrieved {} retrospectives (hasNext={})", retrospectiveDtos.size(), hasNext);
+        return new CursorPageDto<>(retrospectiveDtos, nextCursor, totalElements);
+    }
+
+    /**
+     * Loads the given retrospectives, in the order of the ids, together with the
+     * selected ones of their participants and feedback items using one query per
+     * collection.
+     */
+    private List<Retrospective> loadRetrospectives(List<UUID> ids, RetrospectiveFields fields) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Retrospective> retrospectives = fields.includes(RetrospectiveFields.PARTICIPANTS)
+                ? retrospectiveRepository.findAllWithParticipantsByIdIn(ids)
+                : retrospectiveRepository.findAllById(ids);
+        Map<UUID, Retrospective> retrospectivesById = retrospectives.stream()
+                .collect(Collectors.toMap(Retrospective::getId, Function.identity()));
+        if (fields.includes(RetrospectiveFields.FEEDBACK_ITEMS)) {
+            retrospectiveRepository.findAllWithFeedbackItemsByIdIn(ids);
+        }
+        return ids.stream().map(retrospectivesById::get).collect(Collectors.toList());
+    }
+
+    /**
+     * Maps a retrospective without touching the collections that are not
+     * selected, which are left null.
+     */
+    private RetrospectiveDto toDto(Retrospective retrospective, RetrospectiveFields fields) {
+        if (fields.isAll()) {
+            return retrospectiveMapper.toDto(retrospective);
+        }
+        RetrospectiveDto retrospectiveDto = retrospectiveMapper.toDtoWithoutCollections(retrospective);
+        if (fields.includes(RetrospectiveFields.PARTICIPANTS)) {
+            retrospectiveDto.setParticipants(new ArrayList<>(retrospective.getParticipants()));
+        }
+        if (fields.includes(RetrospectiveFields.FEEDBACK_ITEMS)) {
+            retrospectiveDto
+                    .setFeedbackItems(retrospectiveMapper.toFeedbackItemDtos(retrospective.getFeedbackItems()));
+        }
+        return retrospectiveDto;
+    }
+
+    /**
+     * Adds new feedback items to the tallies of their retrospective, with one
+     * statement per participant and feedback type rather than per item.
+     */
+    private void tallyFeedbackItems(UUID retrospectiveId, Collection<FeedbackItem> feedbackItems) {
+        feedbackItems.stream()
+                .collect(Collectors.groupingBy(FeedbackItem::getName,
+                        Collectors.groupingBy(FeedbackItem::getFeedbackType, Collectors.counting())))
+                .forEach((name, counts) -> counts.forEach((feedbackType, count) -> feedbackTallyRepository
+                        .addToTally(retrospectiveId, name, feedbackType, count)));
+    }
+
+    /**
+     * Moves one item from a tally to another. The tally rows are locked in the
+     * order of their keys, whichever way the item moves, so that concurrent
+     * updates moving items between the same tallies cannot deadlock.
+     */
+    private void moveBetweenTallies(UUID retrospectiveId, String fromName, FeedbackType fromType, String toName,
+            FeedbackType toType) {
+        int order = fromName.compareTo(toName);
+        if (order < 0 || order == 0 && fromType.compareTo(toType) < 0) {
+            feedbackTallyRepository.addToTally(retrospectiveId, fromName, fromType, -1);
+            feedbackTallyRepository.addToTally(retrospectiveId, toName, toType, 1);
+        } else {
+            feedbackTallyRepository.addToTally(retrospectiveId, toName, toType, 1);
+            feedbackTallyRepository.addToTally(retrospectiveId, fromName, fromType, -1);
+        }
+    }
+
+    /**
+     * Announces the new text of created or updated feedback items, for the search
+     * index to pick up once the transaction has committed.
+     */
+    private void publishFeedbackItemsChanged(UUID retrospectiveId, Collection<FeedbackItem> feedbackItems) {
+        if (feedbackItems.isEmpty()) {
+            return;
+        }
+        eventPublisher.publishEvent(new FeedbackItemsChangedEvent(feedbackItems.stream()
+                .map(feedbackItem -> new FeedbackDocument(feedbackItem.getId(), retrospectiveId,
+                        feedbackItem.getName(), feedbackItem.getBody()))
+                .collect(Collectors.toList())));
+    }
+
+    private static Map<FeedbackType, Long> emptyFeedbackCounts() {
+        Map<FeedbackType, Long> feedbackCounts = new EnumMap<>(FeedbackType.class);
+        for (FeedbackType feedbackType : FeedbackType.values()) {
+            feedbackCounts.put(feedbackType, 0L);
+        }
+        return feedbackCounts;
+    }
+
+    private static long total(Map<FeedbackType, Long> feedbackCounts) {
+        return feedbackCounts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private void countFeedbackItem(String counterName, FeedbackType feedbackType) {
+        meterRegistry.counter(counterName, "type", String.valueOf(feedbackType)).increment();
+    }
+
+    /**
+     * Whether a failed write violated the named constraint. Databases report the
+     * name in their own case and some qualify it, so it is matched loosely.
+     */
+    private static boolean violates(DataIntegrityViolationException ex, String constraintName) {
+        return ex.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase().contains(constraintName);
+    }
+
+    private static Optional<UUID> parseFeedbackItemId(String feedbackItemId) {
+        try {
+            return Optional.of(UUID.fromString(feedbackItemId));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
     }
 }
@@ -0,0 +1,15 @@
+package com.assignment.retrospectiveservice.service;
+
+import com.assignment.retrospectiveservice.dto.RetrospectiveDto;
+import com.assignment.retrospectiveservice.repository.RetrospectiveRevision;
+
+/**
+ * A retrospective together with the id and revision it was read at, taken
+ * from the same row, so that an entity tag derived from the revision always
+ * describes this representation.
+ *
+ * @param revision      The id and revision the retrospective was read at.
+ * @param retrospective The retrospective.
+ */
+public record RevisedRetrospective(RetrospectiveRevision revision, RetrospectiveDto retrospective) {
+}
@@ -0,0 +1,52 @@
+-- Schema of the retrospective service. Hibernate validates the entities against
+-- it on startup (spring.jpa.hibernate.ddl-auto=validate) but never changes it;
+-- changes go into new migrations.
+
+create table retrospective (
+    id uuid not null,
+    name varchar(255),
+    summary varchar(255),
+    date date not null,
+    -- advanced by every feedback write, see RetrospectiveRepository.incrementRevision
+    revision bigint not null,
+    constraint pk_retrospective primary key (id),
+    constraint uk_retrospective_name unique (name)
+);
+
+-- listing, date range searches and cursor pages, all in (date desc, id desc) order
+create index idx_retrospective_date on retrospective (date);
+create index idx_retrospective_date_id on retrospective (date, id);
+
+create table retrospective_participants (
+    retrospective_id uuid not null,
+    participants varchar(255),
+    constraint fk_retrospective_participants_retrospective foreign key (retrospective_id)
+        references retrospective (id)
+);
+
+create index idx_retrospective_participants_retrospective on retrospective_participants (retrospective_id);
+
+create table feedback_item (
+    id uuid not null,
+    retrospective_id uuid not null,
+    name varchar(255),
+    body varchar(255),
+    feedback_type tinyint not null check (feedback_type between 0 and 3),
+    version bigint,
+    constraint pk_feedback_item primary key (id),
+    constraint fk_feedback_item_retrospective foreign key (retrospective_id)
+        references retrospective (id)
+);
+
+-- loading the feedback of a retrospective and looking up one of its items
+create index idx_feedback_item_retrospective on feedback_item (retrospective_id);
+
+create table feedback_tally (
+    retrospective_id uuid not null,
+    name varchar(255) not null,
+    feedback_type tinyint not null check (feedback_type between 0 and 3),
+    item_count bigint not null,
+    constraint pk_feedback_tally primary key (retrospective_id, name, feedback_type),
+    constraint fk_feedback_tally_retrospective foreign key (retrospective_id)
+        references retrospective (id) on delete cascade
+);
@@ -0,0 +1,120 @@
+package com.assignment.retrospectiveservice.benchmark;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Latency of the date range search queries issued by
+ * {@code RetrospectiveRepository} on an H2 table of one million retrospectives
+ * spread over ten years, with and without the indexes declared on
+ * {@code Retrospective}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class DateRangeQueryBenchmark {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2015, 1, 1);
+    private static final int DAYS = 3650;
+
+    @Param({ "1000000" })
+    private int rows;
+
+    @Param({ "true", "false" })
+    private boolean indexed;
+
+    /**
+     * Length of the searched range in days.
+     */
+    @Param({ "1", "30", "365" })
+    private int rangeDays;
+
+    private Connection connection;
+    private PreparedStatement pageQuery;
+    private PreparedStatement countQuery;
+    private int invocation;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:daterange;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists retrospective");
+            statement.execute("create table retrospective (id uuid not null primary key, name varchar(255) unique,"
+                    + " summary varchar(255), \"date\" date not null)");
+            statement.execute("insert into retrospective (id, name, summary, \"date\")"
+                    + " select random_uuid(), 'Retrospective ' || x, 'Summary ' || x,"
+                    + " dateadd(day, mod(x, " + DAYS + "), date '" + FIRST_DATE + "')"
+                    + " from system_range(1, " + rows + ")");
+            if (indexed) {
+                statement.execute("create index idx_retrospective_date on retrospective (\"date\")");
+                statement.execute("create index idx_retrospective_date_id on retrospective (\"date\", id)");
+            }
+            statement.execute("analyze");
+        }
+        pageQuery = connection.prepareStatement("select id from retrospective where \"date\" between ? and ?"
+                + " order by \"date\" desc, id desc limit 20");
+        countQuery = connection.prepareStatement("select count(*) from retrospective where \"date\" between ? and ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table retrospective");
+        }
+        connection.close();
+    }
+
+    /**
+     * Binds a range that starts on a different day for every invocation, since
+     * H2 reuses the result of a prepared query whose parameters did not change.
+     */
+    private void bindNextRange(PreparedStatement query) throws SQLException {
+        LocalDate rangeStart = FIRST_DATE.plusDays(invocation++ % (DAYS - rangeDays));
+        query.setDate(1, Date.valueOf(rangeStart));
+        query.setDate(2, Date.valueOf(rangeStart.plusDays(rangeDays - 1L)));
+    }
+
+    @Benchmark
+    public void firstPageOfRange(Blackhole blackhole) throws SQLException {
+        bindNextRange(pageQuery);
+        try (ResultSet resultSet = pageQuery.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getObject(1));
+            }
+        }
+    }
+
+    @Benchmark
+    public long countOfRange() throws SQLException {
+        bindNextRange(countQuery);
+        try (ResultSet resultSet = countQuery.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
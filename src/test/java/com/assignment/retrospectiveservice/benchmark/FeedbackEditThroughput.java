@@ -0,0 +1,151 @@
+package com.assignment.retrospectiveservice.benchmark;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.assignment.retrospectiveservice.RetrospectiveServiceApplication;
+import com.assignment.retrospectiveservice.config.MetricsConfig;
+import com.assignment.retrospectiveservice.dto.FeedbackItemDto;
+import com.assignment.retrospectiveservice.dto.RetrospectiveDto;
+import com.assignment.retrospectiveservice.exception.FeedbackItemConflictException;
+import com.assignment.retrospectiveservice.model.FeedbackType;
+import com.assignment.retrospectiveservice.service.FeedbackItemUpdateRetrier;
+import com.assignment.retrospectiveservice.service.RetrospectiveService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Throughput of concurrent feedback item updates on one busy board, through the
+ * {@link FeedbackItemUpdateRetrier} with the full Spring context in place.
+ * <p>
+ * The board is seeded with {@value #FEEDBACK_ITEMS} feedback items. For each
+ * number of writers, every writer updates feedback items back to back, without
+ * a version, for a fixed time: in the {@code SPREAD} scenario a random item of
+ * the board each time, in the {@code HOT} scenario all the same item. The
+ * program reports the committed updates per second, the retries after a lost
+ * update and the updates refused after the last attempt. The arguments are the
+ * writer counts to run:
+ *
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:exec \
+ *     -Dbenchmark.main=com.assignment.retrospectiveservice.benchmark.FeedbackEditThroughput \
+ *     -Dbenchmark.args="1 2 4 8 16"
+ * </pre>
+ */
+public class FeedbackEditThroughput {
+
+    private static final String BOARD = "Busy board";
+    private static final int FEEDBACK_ITEMS = 1000;
+    private static final Duration WARMUP = Duration.ofSeconds(2);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(5);
+
+    private enum Scenario {
+        SPREAD, HOT
+    }
+
+    public static void main(String[] args) throws Exception {
+        int[] writerCounts = args.length > 0 ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[] { 1, 2, 4, 8, 16 };
+        // devtools would otherwise restart the application in a new class loader
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        List<String> rows = new ArrayList<>();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                RetrospectiveServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:editthroughput", "--logging.level.root=WARN",
+                        "--logging.level.com.assignment.retrospectiveservice=ERROR",
+                        // lost updates are expected here; the retries are counted instead
+                        "--logging.level.org.hibernate.orm.jdbc.batch=OFF")) {
+            List<String> feedbackItemIds = seed(context.getBean(RetrospectiveService.class));
+            FeedbackItemUpdateRetrier retrier = context.getBean(FeedbackItemUpdateRetrier.class);
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            // compiles the write path before the first measurement
+            run(retrier, feedbackItemIds, 1, WARMUP);
+            for (Scenario scenario : Scenario.values()) {
+                List<String> targets = scenario == Scenario.SPREAD ? feedbackItemIds
+                        : feedbackItemIds.subList(0, 1);
+                for (int writers : writerCounts) {
+                    run(retrier, targets, writers, WARMUP);
+                    double retriesBefore = retries(meterRegistry);
+                    Result result = run(retrier, targets, writers, MEASUREMENT);
+                    rows.add(String.format("%-7s %8d %10.0f %9.0f %9d", scenario, writers,
+                            result.updated() / (double) MEASUREMENT.toSeconds(),
+                            retries(meterRegistry) - retriesBefore, result.refused()));
+                }
+            }
+        }
+
+        System.out.printf("%n%-7s %8s %10s %9s %9s%n", "items", "writers", "updates/s", "retries", "refused");
+        rows.forEach(System.out::println);
+    }
+
+    private static List<String> seed(RetrospectiveService retrospectiveService) {
+        retrospectiveService.createRetrospective(new RetrospectiveDto(BOARD, "Sprint review", LocalDate.of(2024, 1, 1),
+                List.of("Chandra", "Balu"), null));
+        FeedbackType[] types = FeedbackType.values();
+        List<FeedbackItemDto> feedbackItemDtos = new ArrayList<>(FEEDBACK_ITEMS);
+        for (int i = 0; i < FEEDBACK_ITEMS; i++) {
+            feedbackItemDtos.add(new FeedbackItemDto(i % 2 == 0 ? "Chandra" : "Balu", "Feedback " + i,
+                    types[i % types.length]));
+        }
+        return retrospectiveService.addFeedbackItems(BOARD, feedbackItemDtos).stream()
+                .map(feedbackItemDto -> feedbackItemDto.getId().toString())
+                .toList();
+    }
+
+    private static Result run(FeedbackItemUpdateRetrier retrier, List<String> targets, int writers,
+            Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Result>> futures = new ArrayList<>();
+        try (ExecutorService writerThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < writers; i++) {
+                futures.add(writerThreads.submit(() -> update(retrier, targets, deadline)));
+            }
+        }
+        long updated = 0;
+        long refused = 0;
+        for (Future<Result> future : futures) {
+            updated += future.get().updated();
+            refused += future.get().refused();
+        }
+        return new Result(updated, refused);
+    }
+
+    private static Result update(FeedbackItemUpdateRetrier retrier, List<String> targets, long deadline) {
+        FeedbackType[] types = FeedbackType.values();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long updated = 0;
+        long refused = 0;
+        while (System.nanoTime() < deadline) {
+            String feedbackItemId = targets.get(random.nextInt(targets.size()));
+            try {
+                retrier.updateFeedbackItem(BOARD, feedbackItemId, new FeedbackItemDto(
+                        random.nextBoolean() ? "Chandra" : "Balu", "Edited " + updated,
+                        types[random.nextInt(types.length)]));
+                updated++;
+            } catch (FeedbackItemConflictException ex) {
+                refused++;
+            }
+        }
+        return new Result(updated, refused);
+    }
+
+    private static double retries(MeterRegistry meterRegistry) {
+        return meterRegistry.get(MetricsConfig.FEEDBACK_UPDATE_RETRIES).counter().count();
+    }
+
+    private record Result(long updated, long refused) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.assignment.retrospectiveservice.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.assignment.retrospectiveservice.search.FeedbackDocument;
+import com.assignment.retrospectiveservice.search.FeedbackSearchIndex;
+
+/**
+ * Latency of searching the {@link FeedbackSearchIndex} for the first page of
+ * results, and of indexing one updated feedback item, over a few million
+ * feedback items. Bodies are twelve words drawn from a 50,000 word vocabulary
+ * with a skewed distribution, so the common words occur in a large share of
+ * the items and the rare ones in a handful.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class FeedbackSearchBenchmark {
+
+    private static final int VOCABULARY = 50_000;
+    private static final int WORDS_PER_BODY = 12;
+    private static final int PAGE_SIZE = 10;
+
+    @Param({ "1000000", "2000000" })
+    private int feedbackItems;
+
+    private FeedbackSearchIndex index;
+    private UUID retrospectiveId;
+    private List<UUID> feedbackItemIds;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = new SplittableRandom(42);
+        index = new FeedbackSearchIndex();
+        retrospectiveId = UUID.randomUUID();
+        feedbackItemIds = new ArrayList<>(feedbackItems);
+        List<FeedbackDocument> chunk = new ArrayList<>();
+        for (int i = 0; i < feedbackItems; i++) {
+            UUID feedbackItemId = UUID.randomUUID();
+            feedbackItemIds.add(feedbackItemId);
+            chunk.add(new FeedbackDocument(feedbackItemId, retrospectiveId, "participant" + (i % 50), body()));
+            if (chunk.size() == 10_000) {
+                index.index(chunk);
+                chunk.clear();
+            }
+        }
+        index.index(chunk);
+    }
+
+    @Benchmark
+    public FeedbackSearchIndex.Hits searchCommonWord() {
+        return index.search("w1", 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public FeedbackSearchIndex.Hits searchMediumWord() {
+        return index.search("w100", 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public FeedbackSearchIndex.Hits searchRareWord() {
+        return index.search("w20000", 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public FeedbackSearchIndex.Hits searchThreeWords() {
+        return index.search("w5 w300 w20000", 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public void updateFeedbackItem() {
+        UUID feedbackItemId = feedbackItemIds.get(random.nextInt(feedbackItemIds.size()));
+        index.index(List.of(new FeedbackDocument(feedbackItemId, retrospectiveId, "participant", body())));
+    }
+
+    private String body() {
+        StringBuilder body = new StringBuilder();
+        for (int word = 0; word < WORDS_PER_BODY; word++) {
+            // roughly Zipf distributed: small word numbers are much more frequent
+            int number = (int) Math.pow(VOCABULARY, random.nextDouble());
+            body.append('w').append(number).append(' ');
+        }
+        return body.toString();
+    }
+}
@@ -0,0 +1,113 @@
+package com.assignment.retrospectiveservice.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.assignment.retrospectiveservice.dto.FeedbackItemDto;
+import com.assignment.retrospectiveservice.dto.RetrospectiveDto;
+import com.assignment.retrospectiveservice.mapper.RetrospectiveMapper;
+import com.assignment.retrospectiveservice.mapper.RetrospectiveMapperImpl;
+import com.assignment.retrospectiveservice.model.FeedbackItem;
+import com.assignment.retrospectiveservice.model.FeedbackType;
+import com.assignment.retrospectiveservice.model.Retrospective;
+
+/**
+ * Compares the generated {@link RetrospectiveMapper} with the reflective
+ * ModelMapper it replaced. Run with {@code -prof gc} to see the allocation
+ * rate per operation next to the throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    private int feedbackItems;
+
+    private ModelMapper modelMapper;
+    private RetrospectiveMapper retrospectiveMapper;
+
+    private Retrospective retrospective;
+    private RetrospectiveDto retrospectiveDto;
+    private FeedbackItemDto feedbackItemDto;
+    private FeedbackItem feedbackItem;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        retrospectiveMapper = new RetrospectiveMapperImpl();
+
+        retrospective = new Retrospective();
+        retrospective.setId(UUID.randomUUID());
+        retrospective.setName("Sprint 42 Retrospective");
+        retrospective.setSummary("Benchmark board");
+        retrospective.setDate(LocalDate.of(2024, 4, 10));
+        retrospective.setParticipants(List.of("Chandra", "Balu", "Pramod"));
+        FeedbackType[] types = FeedbackType.values();
+        List<FeedbackItem> items = new ArrayList<>(feedbackItems);
+        for (int i = 0; i < feedbackItems; i++) {
+            FeedbackItem item = new FeedbackItem();
+            item.setId(UUID.randomUUID());
+            item.setName("Participant " + (i % 3));
+            item.setBody("Feedback body number " + i + " with a few more words in it");
+            item.setFeedbackType(types[i % types.length]);
+            items.add(item);
+        }
+        retrospective.setFeedbackItems(items);
+
+        retrospectiveDto = retrospectiveMapper.toDto(retrospective);
+        feedbackItemDto = new FeedbackItemDto("Chandra", "Updated body", FeedbackType.IDEA);
+        feedbackItem = items.get(0);
+    }
+
+    @Benchmark
+    public RetrospectiveDto modelMapperToDto() {
+        return modelMapper.map(retrospective, RetrospectiveDto.class);
+    }
+
+    @Benchmark
+    public RetrospectiveDto mapStructToDto() {
+        return retrospectiveMapper.toDto(retrospective);
+    }
+
+    @Benchmark
+    public Retrospective modelMapperToEntity() {
+        return modelMapper.map(retrospectiveDto, Retrospective.class);
+    }
+
+    @Benchmark
+    public Retrospective mapStructToEntity() {
+        return retrospectiveMapper.toEntity(retrospectiveDto);
+    }
+
+    @Benchmark
+    public FeedbackItem modelMapperUpdateFeedbackItem() {
+        modelMapper.map(feedbackItemDto, feedbackItem);
+        return feedbackItem;
+    }
+
+    @Benchmark
+    public FeedbackItem mapStructUpdateFeedbackItem() {
+        retrospectiveMapper.updateFeedbackItem(feedbackItemDto, feedbackItem);
+        return feedbackItem;
+    }
+}
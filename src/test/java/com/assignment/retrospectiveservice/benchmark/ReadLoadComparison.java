@@ -0,0 +1,213 @@
+package com.assignment.retrospectiveservice.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.assignment.retrospectiveservice.RetrospectiveServiceApplication;
+import com.assignment.retrospectiveservice.model.FeedbackItem;
+import com.assignment.retrospectiveservice.model.FeedbackType;
+import com.assignment.retrospectiveservice.model.Retrospective;
+import com.assignment.retrospectiveservice.repository.RetrospectiveRepository;
+
+/**
+ * Load comparison of {@code GET /retrospectives} served by blocking platform
+ * threads, as before, and by virtual threads with connection pool admission.
+ * <p>
+ * For each mode the application is started in-process on a random port over
+ * its own in-memory database and seeded. It is then hit from a fixed number of
+ * concurrent connections, each issuing requests back to back, and the program
+ * reports throughput, latency percentiles of the successful requests and the
+ * number of requests rejected by admission control. The arguments are the
+ * connection counts to run:
+ *
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:exec \
+ *     -Dbenchmark.main=com.assignment.retrospectiveservice.benchmark.ReadLoadComparison \
+ *     -Dbenchmark.args="50 200 1000"
+ * </pre>
+ */
+public class ReadLoadComparison {
+
+    private static final int RETROSPECTIVES = 500;
+    private static final int FEEDBACK_ITEMS_PER_RETROSPECTIVE = 5;
+    private static final int PAGE_SIZE = 10;
+    private static final Duration WARMUP = Duration.ofSeconds(3);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(10);
+
+    private enum Mode {
+
+        PLATFORM("spring.threads.virtual.enabled=false", "retrospective.admission.enabled=false"),
+        VIRTUAL("spring.threads.virtual.enabled=true", "retrospective.admission.enabled=true");
+
+        private final String[] properties;
+
+        Mode(String... properties) {
+            this.properties = properties;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int[] connectionCounts = args.length > 0 ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[] { 50, 200, 1000 };
+        // devtools would otherwise restart the application in a new class loader
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        List<String> rows = new ArrayList<>();
+        for (Mode mode : Mode.values()) {
+            try (ConfigurableApplicationContext context = start(mode)) {
+                seed(context.getBean(RetrospectiveRepository.class));
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                HttpClient client = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(10))
+                        .build();
+                for (int connections : connectionCounts) {
+                    run(client, port, connections, WARMUP);
+                    Result result = run(client, port, connections, MEASUREMENT);
+                    rows.add(String.format("%-9s %11d %12.0f %9.1f %9.1f %9d %9d", mode, connections,
+                            result.ok() / (double) MEASUREMENT.toSeconds(), result.percentileMillis(50),
+                            result.percentileMillis(99), result.rejected(), result.errors()));
+                }
+            }
+        }
+
+        System.out.printf("%n%-9s %11s %12s %9s %9s %9s %9s%n", "mode", "connections", "requests/s", "p50 ms",
+                "p99 ms", "rejected", "errors");
+        rows.forEach(System.out::println);
+    }
+
+    private static ConfigurableApplicationContext start(Mode mode) {
+        // passed as command line arguments, which take precedence over application.yaml
+        List<String> properties = new ArrayList<>(List.of(mode.properties));
+        properties.add("server.port=0");
+        properties.add("spring.datasource.url=jdbc:h2:mem:load-" + mode.name().toLowerCase());
+        properties.add("logging.level.root=WARN");
+        properties.add("logging.level.com.assignment.retrospectiveservice=ERROR");
+        return new SpringApplicationBuilder(RetrospectiveServiceApplication.class)
+                .run(properties.stream().map(property -> "--" + property).toArray(String[]::new));
+    }
+
+    private static void seed(RetrospectiveRepository retrospectiveRepository) {
+        List<Retrospective> retrospectives = new ArrayList<>();
+        for (int i = 0; i < RETROSPECTIVES; i++) {
+            Retrospective retrospective = new Retrospective();
+            retrospective.setName("Retrospective " + i);
+            retrospective.setDate(LocalDate.of(2024, 1, 1).plusDays(i));
+            retrospective.setParticipants(List.of("Chandra", "Balu"));
+            for (int j = 0; j < FEEDBACK_ITEMS_PER_RETROSPECTIVE; j++) {
+                FeedbackItem feedbackItem = new FeedbackItem();
+                feedbackItem.setName("Chandra");
+                feedbackItem.setBody("Feedback " + j + " on retrospective " + i);
+                feedbackItem.setFeedbackType(FeedbackType.values()[j % FeedbackType.values().length]);
+                feedbackItem.setRetrospective(retrospective);
+                retrospective.getFeedbackItems().add(feedbackItem);
+            }
+            retrospectives.add(retrospective);
+        }
+        retrospectiveRepository.saveAll(retrospectives);
+    }
+
+    private static Result run(HttpClient client, int port, int connections, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Result>> futures = new ArrayList<>();
+        try (ExecutorService connectionThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < connections; i++) {
+                futures.add(connectionThreads.submit(() -> issueRequests(client, port, deadline)));
+            }
+        }
+        Result total = new Result();
+        for (Future<Result> future : futures) {
+            total.add(future.get());
+        }
+        return total;
+    }
+
+    private static Result issueRequests(HttpClient client, int port, long deadline) {
+        Result result = new Result();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                    + "/retrospectives?page=" + random.nextInt(RETROSPECTIVES / PAGE_SIZE) + "&pageSize=" + PAGE_SIZE))
+                    .header("Accept", "application/json")
+                    .build();
+            long start = System.nanoTime();
+            try {
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status == 200) {
+                    result.recordOk(System.nanoTime() - start);
+                } else if (status == 503) {
+                    result.rejected++;
+                } else {
+                    result.errors++;
+                }
+            } catch (Exception ex) {
+                result.errors++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Latencies of the successful requests and counts of the others, for one
+     * connection or merged over all of them.
+     */
+    private static final class Result {
+
+        private long[] latencies = new long[1024];
+        private int ok;
+        private long rejected;
+        private long errors;
+
+        void recordOk(long latencyNanos) {
+            if (ok == latencies.length) {
+                latencies = Arrays.copyOf(latencies, ok * 2);
+            }
+            latencies[ok++] = latencyNanos;
+        }
+
+        void add(Result other) {
+            for (int i = 0; i < other.ok; i++) {
+                recordOk(other.latencies[i]);
+            }
+            rejected += other.rejected;
+            errors += other.errors;
+        }
+
+        int ok() {
+            return ok;
+        }
+
+        long rejected() {
+            return rejected;
+        }
+
+        long errors() {
+            return errors;
+        }
+
+        double percentileMillis(double percentile) {
+            if (ok == 0) {
+                return Double.NaN;
+            }
+            long[] sorted = Arrays.copyOf(latencies, ok);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100 * ok) - 1;
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.assignment.retrospectiveservice.benchmark;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.flywaydb.core.Flyway;
+
+import com.assignment.retrospectiveservice.RetrospectiveServiceApplication;
+import com.assignment.retrospectiveservice.model.FeedbackType;
+
+/**
+ * Restart-to-ready time of the application in the {@code persistent} profile
+ * over a database file of 1M feedback items, with and without the cache
+ * warm-up.
+ * <p>
+ * The database file is created once with the Flyway migrations and seeded over
+ * JDBC with boards of {@value #FEEDBACK_ITEMS_PER_RETROSPECTIVE} feedback items.
+ * The application is then started {@value #RESTARTS} times per mode, each time
+ * in a new JVM. The program reports the median time from launching the JVM to
+ * {@code /actuator/health/readiness} reporting UP, and the latency of the first
+ * {@code GET /retrospectives/{name}} of the most recent board. The argument is
+ * the number of feedback items to seed:
+ *
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:exec \
+ *     -Dbenchmark.main=com.assignment.retrospectiveservice.benchmark.RestartComparison \
+ *     -Dbenchmark.args="1000000"
+ * </pre>
+ */
+public class RestartComparison {
+
+    private static final int FEEDBACK_ITEMS_PER_RETROSPECTIVE = 100;
+    private static final int RESTARTS = 3;
+    private static final int BATCH_SIZE = 1000;
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(5);
+
+    private enum Mode {
+
+        COLD("retrospective.warm-up.enabled=false"),
+        WARMED("retrospective.warm-up.enabled=true");
+
+        private final String[] properties;
+
+        Mode(String... properties) {
+            this.properties = properties;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int feedbackItems = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Path storageDirectory = Files.createTempDirectory("retrospective-restart");
+        String url = "jdbc:h2:file:" + storageDirectory.resolve("retrospectives");
+
+        long seedStart = System.nanoTime();
+        Flyway.configure().dataSource(url, "sa", "password").load().migrate();
+        String mostRecent = seed(url, feedbackItems / FEEDBACK_ITEMS_PER_RETROSPECTIVE);
+        System.out.printf("Seeded %d feedback items in %d s into %s%n", feedbackItems,
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - seedStart), storageDirectory);
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        List<String> rows = new ArrayList<>();
+        for (Mode mode : Mode.values()) {
+            long[] readyMillis = new long[RESTARTS];
+            long[] firstGetMillis = new long[RESTARTS];
+            for (int i = 0; i < RESTARTS; i++) {
+                int port = freePort();
+                long start = System.nanoTime();
+                Process process = start(mode, storageDirectory, port);
+                try {
+                    awaitReady(client, port, process);
+                    readyMillis[i] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    long getStart = System.nanoTime();
+                    HttpResponse<Void> response = client.send(HttpRequest
+                            .newBuilder(URI.create("http://localhost:" + port + "/retrospectives/"
+                                    + mostRecent.replace(" ", "%20")))
+                            .header("Accept", "application/json").build(), HttpResponse.BodyHandlers.discarding());
+                    firstGetMillis[i] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - getStart);
+                    if (response.statusCode() != 200) {
+                        throw new IllegalStateException("GET returned " + response.statusCode());
+                    }
+                } finally {
+                    process.destroy();
+                    process.waitFor();
+                }
+            }
+            rows.add(String.format("%-7s %17d %18d", mode, median(readyMillis), median(firstGetMillis)));
+        }
+
+        System.out.printf("%n%-7s %17s %18s%n", "mode", "restart-ready ms", "first GET ms");
+        rows.forEach(System.out::println);
+    }
+
+    /**
+     * Seeds the boards, newest last, with their participants, feedback items and
+     * tallies.
+     *
+     * @return the name of the most recent board
+     */
+    private static String seed(String url, int retrospectives) throws SQLException {
+        FeedbackType[] types = FeedbackType.values();
+        try (Connection connection = DriverManager.getConnection(url, "sa", "password");
+                PreparedStatement retrospective = connection.prepareStatement(
+                        "insert into retrospective (id, name, summary, date, revision) values (?, ?, ?, ?, 0)");
+                PreparedStatement participant = connection.prepareStatement(
+                        "insert into retrospective_participants (retrospective_id, participants) values (?, ?)");
+                PreparedStatement feedbackItem = connection.prepareStatement(
+                        "insert into feedback_item (id, retrospective_id, name, body, feedback_type, version)"
+                                + " values (?, ?, ?, ?, ?, 0)");
+                PreparedStatement tally = connection.prepareStatement(
+                        "insert into feedback_tally (retrospective_id, name, feedback_type, item_count)"
+                                + " values (?, ?, ?, ?)")) {
+            connection.setAutoCommit(false);
+            String name = null;
+            for (int board = 0; board < retrospectives; board++) {
+                UUID id = UUID.randomUUID();
+                name = "Board " + board;
+                retrospective.setObject(1, id);
+                retrospective.setString(2, name);
+                retrospective.setString(3, "Sprint review");
+                retrospective.setDate(4, Date.valueOf(LocalDate.of(2000, 1, 1).plusDays(board)));
+                retrospective.executeUpdate();
+                for (String participantName : List.of("Chandra", "Balu")) {
+                    participant.setObject(1, id);
+                    participant.setString(2, participantName);
+                    participant.addBatch();
+                }
+                participant.executeBatch();
+                long[][] counts = new long[2][types.length];
+                for (int i = 0; i < FEEDBACK_ITEMS_PER_RETROSPECTIVE; i++) {
+                    feedbackItem.setObject(1, UUID.randomUUID());
+                    feedbackItem.setObject(2, id);
+                    feedbackItem.setString(3, i % 2 == 0 ? "Chandra" : "Balu");
+                    feedbackItem.setString(4, "Feedback body number " + i + " about the sprint on " + name);
+                    feedbackItem.setInt(5, i % types.length);
+                    feedbackItem.addBatch();
+                    counts[i % 2][i % types.length]++;
+                }
+                feedbackItem.executeBatch();
+                for (int person = 0; person < 2; person++) {
+                    for (FeedbackType type : types) {
+                        tally.setObject(1, id);
+                        tally.setString(2, person == 0 ? "Chandra" : "Balu");
+                        tally.setInt(3, type.ordinal());
+                        tally.setLong(4, counts[person][type.ordinal()]);
+                        tally.addBatch();
+                    }
+                }
+                tally.executeBatch();
+                if ((board + 1) * FEEDBACK_ITEMS_PER_RETROSPECTIVE % (BATCH_SIZE * 10) == 0) {
+                    connection.commit();
+                }
+            }
+            connection.commit();
+            return name;
+        }
+    }
+
+    private static Process start(Mode mode, Path storageDirectory, int port) throws IOException {
+        List<String> command = new ArrayList<>(List.of(
+                ProcessHandle.current().info().command().orElse("java"),
+                // devtools would otherwise restart the application in a new class loader
+                "-Dspring.devtools.restart.enabled=false",
+                "-classpath", System.getProperty("java.class.path"),
+                RetrospectiveServiceApplication.class.getName(),
+                "--spring.profiles.active=persistent",
+                "--retrospective.storage.directory=" + storageDirectory,
+                "--server.port=" + port,
+                "--logging.level.root=WARN"));
+        Arrays.stream(mode.properties).map(property -> "--" + property).forEach(command::add);
+        return new ProcessBuilder(command).redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+    }
+
+    private static void awaitReady(HttpClient client, int port, Process process) throws Exception {
+        HttpRequest readiness = HttpRequest
+                .newBuilder(URI.create("http://localhost:" + port + "/actuator/health/readiness")).build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("The application exited with " + process.exitValue());
+            }
+            try {
+                if (client.send(readiness, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException ex) {
+                // not listening yet
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("The application did not become ready within " + STARTUP_TIMEOUT);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
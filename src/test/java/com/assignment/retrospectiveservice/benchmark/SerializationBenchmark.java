@@ -0,0 +1,89 @@
+package com.assignment.retrospectiveservice.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.assignment.retrospectiveservice.config.JacksonConfig;
+import com.assignment.retrospectiveservice.dto.FeedbackItemDto;
+import com.assignment.retrospectiveservice.dto.RetrospectiveDto;
+import com.assignment.retrospectiveservice.model.FeedbackType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+
+/**
+ * Serialization of a page of retrospectives, as returned by the listing
+ * endpoints, to JSON with the {@link JacksonConfig} object mapper and to XML
+ * with a mapper configured like the XML message converter. Run with
+ * {@code -prof gc} to see the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Param({ "10", "500", "5000" })
+    private int feedbackItems;
+
+    private ObjectMapper jsonMapper;
+    private XmlMapper xmlMapper;
+    private Page<RetrospectiveDto> page;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = new JacksonConfig().objectMapper();
+        xmlMapper = Jackson2ObjectMapperBuilder.xml()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        FeedbackType[] types = FeedbackType.values();
+        List<RetrospectiveDto> retrospectiveDtos = new ArrayList<>(PAGE_SIZE);
+        for (int board = 0; board < PAGE_SIZE; board++) {
+            List<FeedbackItemDto> feedbackItemDtos = new ArrayList<>(feedbackItems);
+            for (int i = 0; i < feedbackItems; i++) {
+                feedbackItemDtos.add(new FeedbackItemDto(UUID.randomUUID(), "Participant " + (i % 3),
+                        "Feedback body number " + i + " about the sprint, with a few more words in it",
+                        types[i % types.length]));
+            }
+            retrospectiveDtos.add(new RetrospectiveDto("Board " + board, "Sprint review",
+                    LocalDate.of(2024, 1, 1).plusDays(board), List.of("Chandra", "Balu", "Pramod"),
+                    feedbackItemDtos));
+        }
+        page = new PageImpl<>(retrospectiveDtos, PageRequest.of(0, PAGE_SIZE), 100);
+    }
+
+    @Benchmark
+    public byte[] writeJson() throws JsonProcessingException {
+        return jsonMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] writeXml() throws JsonProcessingException {
+        return xmlMapper.writeValueAsBytes(page);
+    }
+}
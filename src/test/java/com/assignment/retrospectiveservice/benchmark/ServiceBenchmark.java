@@ -0,0 +1,141 @@
+package com.assignment.retrospectiveservice.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+
+import com.assignment.retrospectiveservice.RetrospectiveServiceApplication;
+import com.assignment.retrospectiveservice.config.CacheConfig;
+import com.assignment.retrospectiveservice.dto.FeedbackItemDto;
+import com.assignment.retrospectiveservice.dto.RetrospectiveDto;
+import com.assignment.retrospectiveservice.dto.RetrospectiveFields;
+import com.assignment.retrospectiveservice.dto.RetrospectiveSummaryDto;
+import com.assignment.retrospectiveservice.model.FeedbackType;
+import com.assignment.retrospectiveservice.service.RetrospectiveService;
+
+/**
+ * Latency of the {@link RetrospectiveService} operations against the embedded
+ * H2 database, with the full Spring context (transactions, caching, Hibernate
+ * batching) in place. The database is seeded with {@value #BOARDS} boards of
+ * {@code feedbackItems} feedback items each; the operations address the first
+ * board, and listing returns pages of {@value #PAGE_SIZE} boards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class ServiceBenchmark {
+
+    private static final int BOARDS = 20;
+    private static final int PAGE_SIZE = 10;
+    private static final String BOARD = "Board 0";
+
+    @Param({ "10", "500", "5000" })
+    private int feedbackItems;
+
+    private ConfigurableApplicationContext context;
+    private RetrospectiveService retrospectiveService;
+    private Cache retrospectiveCache;
+    private List<String> feedbackItemIds;
+    private long createdRetrospectives;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // devtools would otherwise restart the application in a new class loader
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        context = new SpringApplicationBuilder(RetrospectiveServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:servicebenchmark", "--logging.level.root=WARN",
+                        "--logging.level.com.assignment.retrospectiveservice=WARN");
+        retrospectiveService = context.getBean(RetrospectiveService.class);
+        retrospectiveCache = context.getBean(CacheManager.class).getCache(CacheConfig.RETROSPECTIVES);
+
+        FeedbackType[] types = FeedbackType.values();
+        for (int board = 0; board < BOARDS; board++) {
+            RetrospectiveDto retrospectiveDto = new RetrospectiveDto("Board " + board, "Sprint review",
+                    LocalDate.of(2024, 1, 1).plusDays(board), List.of("Chandra", "Balu", "Pramod"), null);
+            retrospectiveService.createRetrospective(retrospectiveDto);
+            List<FeedbackItemDto> feedbackItemDtos = new ArrayList<>(feedbackItems);
+            for (int i = 0; i < feedbackItems; i++) {
+                feedbackItemDtos.add(new FeedbackItemDto("Participant " + (i % 3),
+                        "Feedback body number " + i + " about the sprint, with a few more words in it",
+                        types[i % types.length]));
+            }
+            List<FeedbackItemDto> created = retrospectiveService.addFeedbackItems("Board " + board,
+                    feedbackItemDtos);
+            if (board == 0) {
+                feedbackItemIds = created.stream().map(feedbackItemDto -> feedbackItemDto.getId().toString())
+                        .toList();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public RetrospectiveDto createRetrospective() {
+        return retrospectiveService.createRetrospective(new RetrospectiveDto("Created " + createdRetrospectives++,
+                "Created by the benchmark", LocalDate.of(2023, 1, 1), List.of("Chandra", "Balu"), null));
+    }
+
+    @Benchmark
+    public FeedbackItemDto addFeedbackItem() {
+        return retrospectiveService.addFeedbackItem(BOARD,
+                new FeedbackItemDto("Chandra", "Added by the benchmark", FeedbackType.IDEA));
+    }
+
+    @Benchmark
+    public FeedbackItemDto updateFeedbackItem() {
+        String feedbackItemId = feedbackItemIds.get(ThreadLocalRandom.current().nextInt(feedbackItemIds.size()));
+        return retrospectiveService.updateFeedbackItem(BOARD, feedbackItemId,
+                new FeedbackItemDto("Chandra", "Updated by the benchmark", FeedbackType.PRAISE));
+    }
+
+    @Benchmark
+    public RetrospectiveDto getRetrospectiveCached() {
+        return retrospectiveService.getRevisedRetrospective(BOARD, RetrospectiveFields.ALL).retrospective();
+    }
+
+    @Benchmark
+    public RetrospectiveDto getRetrospectiveUncached() {
+        retrospectiveCache.evict(BOARD);
+        return retrospectiveService.getRevisedRetrospective(BOARD, RetrospectiveFields.ALL).retrospective();
+    }
+
+    @Benchmark
+    public Page<RetrospectiveDto> getAllRetrospectives() {
+        return retrospectiveService.getAllRetrospectives(0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Page<RetrospectiveSummaryDto> getRetrospectiveSummaries() {
+        return retrospectiveService.getRetrospectiveSummaries(0, PAGE_SIZE);
+    }
+}
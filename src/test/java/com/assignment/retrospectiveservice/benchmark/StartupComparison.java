@@ -0,0 +1,151 @@
+package com.assignment.retrospectiveservice.benchmark;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Start-up of the packaged application as built by default, a Spring Boot
+ * executable jar in the default profile, and as built by the {@code fast-start}
+ * Maven profile: the {@code prod} profile with AOT generated context
+ * initialisation, on a plain class path with a class data sharing archive.
+ * <p>
+ * Each variant is started a number of times, each time in a new JVM. The
+ * program reports the median time from launching the JVM to the first
+ * successful {@code GET /retrospectives}, and the median resident set size of
+ * the process right after that request (read from {@code /proc}, so Linux
+ * only). Both variants must be built first; the argument is the number of
+ * starts per variant:
+ *
+ * <pre>
+ * ./mvnw -Pfast-start package -DskipTests
+ * ./mvnw -Pbenchmark test-compile exec:exec \
+ *     -Dbenchmark.main=com.assignment.retrospectiveservice.benchmark.StartupComparison \
+ *     -Dbenchmark.args="5"
+ * </pre>
+ */
+public class StartupComparison {
+
+    private static final Path TARGET = Path.of("target");
+    private static final Path FAST_START_DIRECTORY = TARGET.resolve("fast-start");
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private enum Variant {
+
+        DEFAULT {
+            @Override
+            List<String> command() throws IOException {
+                return List.of("-jar", find(TARGET, "*-SNAPSHOT.jar").toString());
+            }
+        },
+        FAST_START {
+            @Override
+            List<String> command() throws IOException {
+                return List.of("-XX:SharedArchiveFile=" + FAST_START_DIRECTORY.resolve("application.jsa"),
+                        "-Dspring.aot.enabled=true",
+                        "-jar", find(FAST_START_DIRECTORY, "*-fast-start.jar").toString(),
+                        "--spring.profiles.active=prod");
+            }
+        };
+
+        /**
+         * The JVM options, jar and application arguments of the variant.
+         */
+        abstract List<String> command() throws IOException;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int starts = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+        List<String> rows = new ArrayList<>();
+        for (Variant variant : Variant.values()) {
+            long[] firstRequestMillis = new long[starts];
+            long[] rssKilobytes = new long[starts];
+            for (int i = 0; i < starts; i++) {
+                int port = freePort();
+                List<String> command = new ArrayList<>();
+                command.add(ProcessHandle.current().info().command().orElse("java"));
+                command.addAll(variant.command());
+                command.add("--server.port=" + port);
+                command.add("--logging.level.root=WARN");
+                long start = System.nanoTime();
+                Process process = new ProcessBuilder(command).redirectErrorStream(true)
+                        .redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+                try {
+                    awaitFirstRequest(client, port, process);
+                    firstRequestMillis[i] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    rssKilobytes[i] = rssKilobytes(process);
+                } finally {
+                    process.destroy();
+                    process.waitFor();
+                }
+            }
+            rows.add(String.format("%-10s %18d %9d", variant, median(firstRequestMillis),
+                    median(rssKilobytes) / 1024));
+        }
+
+        System.out.printf("%n%-10s %18s %9s%n", "variant", "first request ms", "RSS MB");
+        rows.forEach(System.out::println);
+    }
+
+    private static void awaitFirstRequest(HttpClient client, int port, Process process) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/retrospectives"))
+                .header("Accept", "application/json").build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("The application exited with " + process.exitValue());
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException ex) {
+                // not listening yet
+            }
+            Thread.sleep(5);
+        }
+        throw new IllegalStateException("The application did not answer within " + STARTUP_TIMEOUT);
+    }
+
+    private static long rssKilobytes(Process process) throws IOException {
+        return Files.readAllLines(Path.of("/proc", String.valueOf(process.pid()), "status")).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .mapToLong(line -> Long.parseLong(line.replaceAll("\\D", "")))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static Path find(Path directory, String glob) throws IOException {
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, glob)) {
+            for (Path path : paths) {
+                return path;
+            }
+        }
+        throw new IllegalStateException("No " + glob + " in " + directory + "; build it first");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
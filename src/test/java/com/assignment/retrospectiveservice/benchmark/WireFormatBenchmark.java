@@ -0,0 +1,107 @@
+package com.assignment.retrospectiveservice.benchmark;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.assignment.retrospectiveservice.config.BinaryFormatConfig;
+import com.assignment.retrospectiveservice.config.JacksonConfig;
+import com.assignment.retrospectiveservice.dto.FeedbackItemDto;
+import com.assignment.retrospectiveservice.dto.RetrospectiveDto;
+import com.assignment.retrospectiveservice.model.FeedbackType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+/**
+ * Encoding and decoding of a retrospective in each format the controller
+ * negotiates: JSON, XML, and the binary CBOR and Smile formats of
+ * {@link BinaryFormatConfig}. The retrospective has {@code feedbackItems}
+ * feedback items by a dozen participants, with bodies of varying length drawn
+ * from a fixed vocabulary. The payload size of each format is printed at
+ * setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    private static final String[] WORDS = { "sprint", "deploy", "review", "pairing", "flaky", "tests", "standup",
+            "backlog", "estimate", "release", "customer", "demo", "blocked", "refactor", "pipeline", "on-call",
+            "the", "was", "too", "long", "we", "should", "keep", "doing", "more", "less", "great", "slow" };
+
+    @Param({ "json", "xml", "cbor", "smile" })
+    private String format;
+
+    @Param({ "10", "500", "5000" })
+    private int feedbackItems;
+
+    private ObjectMapper mapper;
+    private RetrospectiveDto retrospectiveDto;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = switch (format) {
+        case "json" -> new JacksonConfig().objectMapper();
+        case "xml" -> Jackson2ObjectMapperBuilder.xml()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        case "cbor" -> JacksonConfig.configure(new CBORMapper());
+        case "smile" -> JacksonConfig.configure(new SmileMapper());
+        default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+
+        SplittableRandom random = new SplittableRandom(42);
+        FeedbackType[] types = FeedbackType.values();
+        List<String> participants = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            participants.add("Participant " + i);
+        }
+        List<FeedbackItemDto> feedbackItemDtos = new ArrayList<>(feedbackItems);
+        for (int i = 0; i < feedbackItems; i++) {
+            StringBuilder body = new StringBuilder();
+            for (int words = random.nextInt(5, 40); words > 0; words--) {
+                body.append(WORDS[random.nextInt(WORDS.length)]).append(words > 1 ? " " : ".");
+            }
+            feedbackItemDtos.add(new FeedbackItemDto(UUID.randomUUID(),
+                    participants.get(random.nextInt(participants.size())), body.toString(),
+                    types[random.nextInt(types.length)]));
+        }
+        retrospectiveDto = new RetrospectiveDto("Sprint 42 retrospective", "Review of sprint 42",
+                LocalDate.of(2024, 4, 10), participants, feedbackItemDtos);
+        payload = mapper.writeValueAsBytes(retrospectiveDto);
+        System.out.printf("%n%s payload with %d feedback items: %,d bytes%n", format, feedbackItems, payload.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writeValueAsBytes(retrospectiveDto);
+    }
+
+    @Benchmark
+    public RetrospectiveDto decode() throws IOException {
+        return mapper.readValue(payload, RetrospectiveDto.class);
+    }
+}
@@ -0,0 +1,64 @@
+package com.assignment.retrospectiveservice.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.junit.jupiter.api.*;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.ServletException;
+
+class ConnectionPoolAdmissionFilterTests {
+
+    private ConnectionPoolAdmissionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ConnectionPoolAdmissionFilter(1, Duration.ofMillis(10), Duration.ofSeconds(2));
+    }
+
+    @Test
+    void testGetRejectedWhenAllPermitsAreTaken() throws ServletException, IOException {
+        MockHttpServletResponse admitted = new MockHttpServletResponse();
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+
+        // the second read arrives while the first one still holds the only permit
+        filter.doFilter(new MockHttpServletRequest("GET", "/retrospectives"), admitted,
+                (request, response) -> filter.doFilter(new MockHttpServletRequest("GET", "/retrospectives"),
+                        rejected, new MockFilterChain()));
+
+        assertEquals(200, admitted.getStatus());
+        assertEquals(503, rejected.getStatus());
+        assertEquals("2", rejected.getHeader("Retry-After"));
+        assertEquals(1, filter.getAvailablePermits());
+    }
+
+    @Test
+    void testWritesAreNotAdmissionControlled() throws ServletException, IOException {
+        MockHttpServletResponse write = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/retrospectives"), new MockHttpServletResponse(),
+                (request, response) -> filter.doFilter(
+                        new MockHttpServletRequest("POST", "/retrospectives/Retrospective 1/feedback"), write,
+                        new MockFilterChain()));
+
+        assertEquals(200, write.getStatus());
+    }
+
+    @Test
+    void testAsyncRequestHoldsPermitUntilComplete() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/retrospectives/export");
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+        assertEquals(0, filter.getAvailablePermits());
+
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        assertEquals(1, filter.getAvailablePermits());
+    }
+}
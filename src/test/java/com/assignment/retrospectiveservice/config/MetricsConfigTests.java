@@ -0,0 +1,54 @@
+package com.assignment.retrospectiveservice.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.assignment.retrospectiveservice.dto.FeedbackItemDto;
+import com.assignment.retrospectiveservice.dto.RetrospectiveDto;
+import com.assignment.retrospectiveservice.model.FeedbackType;
+import com.assignment.retrospectiveservice.repository.RetrospectiveRepository;
+import com.assignment.retrospectiveservice.service.RetrospectiveService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Verifies that the service, feedback and per-query metrics are recorded.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:metrics")
+class MetricsConfigTests {
+
+    @Autowired
+    private RetrospectiveService retrospectiveService;
+
+    @Autowired
+    private RetrospectiveRepository retrospectiveRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        retrospectiveRepository.deleteAll();
+    }
+
+    @Test
+    void testServiceCallsAreTimedAndCounted() {
+        retrospectiveService.createRetrospective(new RetrospectiveDto("Metrics", null, LocalDate.of(2024, 4, 10),
+                List.of("Chandra"), null));
+        retrospectiveService.addFeedbackItem("Metrics",
+                new FeedbackItemDto("Chandra", "Measured", FeedbackType.PRAISE));
+        retrospectiveService.getAllRetrospectives(0, 10);
+
+        assertEquals(1, meterRegistry.get(MetricsConfig.SERVICE_TIMER)
+                .tag("method", "addFeedbackItem").timer().count());
+        assertEquals(1, meterRegistry.get(MetricsConfig.FEEDBACK_ADDED).tag("type", "PRAISE").counter().count());
+        assertFalse(meterRegistry.find("hibernate.query.execution.total").functionTimers().isEmpty(),
+                "per-query metrics are not registered");
+    }
+}
@@ -1,46 +1,128 @@
 package com.assignment.retrospectiveservice.controller;
 
+import static org.hamcrest.Matchers.endsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import com.assignment.retrospectiveservice.config.BinaryFormatConfig;
+import com.assignment.retrospectiveservice.config.CacheConfig;
+import com.assignment.retrospectiveservice.config.FieldFilterConfig;
+import com.assignment.retrospectiveservice.config.JacksonConfig;
+import com.assignment.retrospectiveservice.dto.CursorPageDto;
+import com.assignment.retrospectiveservice.dto.FeedbackItemBatchDto;
 import com.assignment.retrospectiveservice.dto.FeedbackItemDto;
+import com.assignment.retrospectiveservice.dto.FeedbackSearchResultDto;
+import com.assignment.retrospectiveservice.dto.FeedbackStatsDto;
+import com.assignment.retrospectiveservice.dto.ParticipantFeedbackStatsDto;
 import com.assignment.retrospectiveservice.dto.RetrospectiveDto;
+import com.assignment.retrospectiveservice.dto.RetrospectiveFields;
+import com.assignment.retrospectiveservice.dto.RetrospectiveSummaryDto;
+import com.assignment.retrospectiveservice.exception.FeedbackItemConflictException;
 import com.assignment.retrospectiveservice.exception.FeedbackItemNotFoundException;
+import com.assignment.retrospectiveservice.exception.FeedbackWriteTimeoutException;
+import com.assignment.retrospectiveservice.exception.InvalidCursorException;
+import com.assignment.retrospectiveservice.exception.InvalidPageRequestException;
+import com.assignment.retrospectiveservice.exception.RetrospectiveAlreadyExistsException;
 import com.assignment.retrospectiveservice.exception.RetrospectiveNotFoundException;
+import com.assignment.retrospectiveservice.logging.LogSummaries;
 import com.assignment.retrospectiveservice.model.FeedbackType;
+import com.assignment.retrospectiveservice.repository.RetrospectiveRevision;
+import com.assignment.retrospectiveservice.service.FeedbackItemUpdateRetrier;
+import com.assignment.retrospectiveservice.service.FeedbackSearchService;
+import com.assignment.retrospectiveservice.service.FeedbackWriteCoalescer;
+import com.assignment.retrospectiveservice.service.IdempotentRetrospectiveCreator;
+import com.assignment.retrospectiveservice.service.RenderedRetrospectiveCache;
+import com.assignment.retrospectiveservice.service.RetrospectiveExportService;
 import com.assignment.retrospectiveservice.service.RetrospectiveService;
+import com.assignment.retrospectiveservice.service.RevisedRetrospective;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 
 @WebMvcTest(RetrospectiveController.class)
+@Import({ LogSummaries.class, FieldFilterConfig.class, BinaryFormatConfig.class,
+                RenderedRetrospectiveCache.class, IdempotentRetrospectiveCreator.class })
 class RetrospectiveControllerTests {
 
+        private static final RetrospectiveRevision REVISION = new RetrospectiveRevision(UUID.randomUUID(), 4);
+
+        @TestConfiguration
+        static class RenderedRetrospectiveCacheConfig {
+
+                @Bean
+                CacheManager cacheManager() {
+                        return new ConcurrentMapCacheManager(CacheConfig.RENDERED_RETROSPECTIVES,
+                                        CacheConfig.IDEMPOTENT_CREATIONS);
+                }
+        }
+
         @MockBean
         private RetrospectiveService retrospectiveService;
 
+        @MockBean
+        private RetrospectiveExportService retrospectiveExportService;
+
+        @MockBean
+        private FeedbackSearchService feedbackSearchService;
+
+        @MockBean
+        private FeedbackWriteCoalescer feedbackWriteCoalescer;
+
+        @MockBean
+        private FeedbackItemUpdateRetrier feedbackItemUpdateRetrier;
+
         @Autowired
         private MockMvc mockMvc;
 
         @Autowired
         private ObjectMapper objectMapper;
 
+        @Autowired
+        private CacheManager cacheManager;
+
+        @BeforeEach
+        void clearCaches() {
+                cacheManager.getCache(CacheConfig.RENDERED_RETROSPECTIVES).clear();
+                cacheManager.getCache(CacheConfig.IDEMPOTENT_CREATIONS).clear();
+        }
+
         @Test
         void testCreateRetrospective() throws Exception {
                 // Prepare test data
@@ -72,26 +154,297 @@ class RetrospectiveControllerTests {
                                 .andExpect(jsonPath("$.feedbackItems").doesNotExist());
         }
 
+        @Test
+        void testCreateRetrospective_AlreadyExists() throws Exception {
+                RetrospectiveDto retrospectiveDto = new RetrospectiveDto("Retrospective 1", null, LocalDate.now(),
+                                Arrays.asList("Chandra", "Balu"), null);
+                when(retrospectiveService.createRetrospective(any(RetrospectiveDto.class))).thenThrow(
+                                new RetrospectiveAlreadyExistsException(
+                                                "Retrospective with the given name already exists."));
+
+                mockMvc.perform(MockMvcRequestBuilders.post("/retrospectives")
+                                .content(objectMapper.writeValueAsString(retrospectiveDto))
+                                .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isConflict());
+        }
+
+        @Test
+        void testCreateRetrospective_RetriedWithIdempotencyKey() throws Exception {
+                RetrospectiveDto retrospectiveDto = new RetrospectiveDto("Retrospective 1", null, LocalDate.now(),
+                                Arrays.asList("Chandra", "Balu"), null);
+                when(retrospectiveService.createRetrospective(any(RetrospectiveDto.class)))
+                                .thenReturn(retrospectiveDto)
+                                .thenThrow(new RetrospectiveAlreadyExistsException(
+                                                "Retrospective with the given name already exists."));
+
+                // The retry is answered like the first request, without creating it again
+                for (int i = 0; i < 2; i++) {
+                        mockMvc.perform(MockMvcRequestBuilders.post("/retrospectives")
+                                        .header("Idempotency-Key", "3f1c1f0e")
+                                        .content(objectMapper.writeValueAsString(retrospectiveDto))
+                                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                                        .andExpect(status().isCreated())
+                                        .andExpect(jsonPath("$.name").value("Retrospective 1"));
+                }
+                verify(retrospectiveService, times(1)).createRetrospective(any(RetrospectiveDto.class));
+
+                // Reusing the key for another retrospective is refused
+                retrospectiveDto.setName("Retrospective 2");
+                mockMvc.perform(MockMvcRequestBuilders.post("/retrospectives")
+                                .header("Idempotency-Key", "3f1c1f0e")
+                                .content(objectMapper.writeValueAsString(retrospectiveDto))
+                                .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isUnprocessableEntity());
+                verify(retrospectiveService, times(1)).createRetrospective(any(RetrospectiveDto.class));
+        }
+
+        @Test
+        void testGetRetrospective() throws Exception {
+                // Prepare test data
+                RetrospectiveDto retrospectiveDto = new RetrospectiveDto();
+                retrospectiveDto.setName("Retrospective 1");
+                retrospectiveDto.setParticipants(Arrays.asList("Chandra", "Balu"));
+
+                // Mock service response
+                when(retrospectiveService.getRetrospectiveRevision("Retrospective 1")).thenReturn(REVISION);
+                when(retrospectiveService.getRevisedRetrospective("Retrospective 1", RetrospectiveFields.ALL))
+                                .thenReturn(new RevisedRetrospective(REVISION, retrospectiveDto));
+
+                // Perform GET request
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives/{retrospectiveName}", "Retrospective 1")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(header().string(HttpHeaders.ETAG, "\"" + REVISION.id() + "-4-json\""))
+                                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.name").value("Retrospective 1"))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.participants[1]").value("Balu"));
+        }
+
+        @Test
+        void testGetRetrospective_NotModified() throws Exception {
+                // Mock service response
+                when(retrospectiveService.getRetrospectiveRevision("Retrospective 1")).thenReturn(REVISION);
+
+                // Perform conditional GET request and expect 304 without loading the retrospective
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives/{retrospectiveName}", "Retrospective 1")
+                                .header(HttpHeaders.IF_NONE_MATCH, "\"" + REVISION.id() + "-4-json\"")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                                .andExpect(content().string(""));
+                verify(retrospectiveService, never()).getRevisedRetrospective(anyString(), any());
+        }
+
+        @Test
+        void testGetRetrospective_ETagIsTheRevisionOfTheBody() throws Exception {
+                // The revision lookup lags behind the retrospective loaded for the body
+                RetrospectiveRevision loaded = new RetrospectiveRevision(REVISION.id(), 5);
+                RetrospectiveDto retrospectiveDto = new RetrospectiveDto("Retrospective 1", "Summary",
+                                LocalDate.of(2024, 4, 10), Arrays.asList("Chandra", "Balu"), null);
+                when(retrospectiveService.getRetrospectiveRevision("Retrospective 1")).thenReturn(REVISION);
+                when(retrospectiveService.getRevisedRetrospective("Retrospective 1", RetrospectiveFields.ALL))
+                                .thenReturn(new RevisedRetrospective(loaded, retrospectiveDto));
+
+                // Perform GET request and expect the body tagged with its own revision
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives/{retrospectiveName}", "Retrospective 1")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(header().stringValues(HttpHeaders.ETAG,
+                                                "\"" + REVISION.id() + "-5-json\""));
+
+                // Once the lookup catches up, the body rendered at that revision is reused
+                when(retrospectiveService.getRetrospectiveRevision("Retrospective 1")).thenReturn(loaded);
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives/{retrospectiveName}", "Retrospective 1")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(header().stringValues(HttpHeaders.ETAG,
+                                                "\"" + REVISION.id() + "-5-json\""));
+                verify(retrospectiveService, times(1)).getRevisedRetrospective("Retrospective 1",
+                                RetrospectiveFields.ALL);
+        }
+
+        @Test
+        void testGetRetrospective_ETagDependsOnRepresentation() throws Exception {
+                // Mock service response
+                when(retrospectiveService.getRetrospectiveRevision("Retrospective 1")).thenReturn(REVISION);
+                when(retrospectiveService.getRevisedRetrospective("Retrospective 1", RetrospectiveFields.ALL))
+                                .thenReturn(new RevisedRetrospective(REVISION, new RetrospectiveDto()));
+
+                // The JSON ETag must not validate the XML representation
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives/{retrospectiveName}", "Retrospective 1")
+                                .header(HttpHeaders.IF_NONE_MATCH, "\"" + REVISION.id() + "-4-json\"")
+                                .accept(MediaType.APPLICATION_XML))
+                                .andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(header().string(HttpHeaders.ETAG, "\"" + REVISION.id() + "-4-xml\""));
+        }
+
+        @Test
+        void testGetRetrospective_SelectedFields() throws Exception {
+                // Prepare test data
+                RetrospectiveDto retrospectiveDto = new RetrospectiveDto("Retrospective 1", "Summary",
+                                LocalDate.of(2024, 4, 10), null, Collections.singletonList(new FeedbackItemDto(
+                                                UUID.randomUUID(), "Chandra", "Ship it", FeedbackType.PRAISE)));
+                RetrospectiveFields fields = RetrospectiveFields.parse("name,feedbackItems.feedbackType");
+
+                // Mock service response
+                when(retrospectiveService.getRetrospectiveRevision("Retrospective 1")).thenReturn(REVISION);
+                when(retrospectiveService.getRevisedRetrospective(eq("Retrospective 1"),
+                                any(RetrospectiveFields.class)))
+                                .thenReturn(new RevisedRetrospective(REVISION, retrospectiveDto));
+
+                // Perform GET requests, in JSON and XML
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives/{retrospectiveName}", "Retrospective 1")
+                                .param("fields", "name,feedbackItems.feedbackType")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(header().string(HttpHeaders.ETAG,
+                                                "\"" + REVISION.id() + "-4-json;" + fields + "\""))
+                                .andExpect(content().json("{\"name\":\"Retrospective 1\","
+                                                + "\"feedbackItems\":[{\"feedbackType\":\"PRAISE\"}]}", true));
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives/{retrospectiveName}", "Retrospective 1")
+                                .param("fields", "name,feedbackItems.feedbackType")
+                                .accept(MediaType.APPLICATION_XML))
+                                .andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(xpath("/RetrospectiveDto/name").string("Retrospective 1"))
+                                .andExpect(xpath("/RetrospectiveDto/summary").doesNotExist())
+                                .andExpect(xpath("//feedbackType").string("PRAISE"))
+                                .andExpect(xpath("//body").doesNotExist());
+                verify(retrospectiveService, times(2)).getRevisedRetrospective(eq("Retrospective 1"),
+                                argThat(selected -> selected.toString().equals(fields.toString())));
+        }
+
+        @Test
+        void testGetRetrospective_SelectedFieldsNotModified() throws Exception {
+                RetrospectiveFields fields = RetrospectiveFields.parse("name,date,participants");
+                String eTag = "\"" + REVISION.id() + "-4-json;" + fields + "\"";
+
+                // Mock service response
+                when(retrospectiveService.getRetrospectiveRevision("Retrospective 1")).thenReturn(REVISION);
+
+                // The tag of a selection contains commas, within a list of several tags
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives/{retrospectiveName}", "Retrospective 1")
+                                .param("fields", "name,date,participants")
+                                .header(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + eTag)
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+                verify(retrospectiveService, never()).getRevisedRetrospective(anyString(), any());
+        }
+
+        @Test
+        void testGetRetrospective_UnknownField() throws Exception {
+                // Perform GET request and expect 400
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives/{retrospectiveName}", "Retrospective 1")
+                                .param("fields", "name,bogus")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+                verifyNoInteractions(retrospectiveService);
+        }
+
+        @Test
+        void testGetRetrospective_RetrospectiveNotFound() throws Exception {
+                // Mock service response
+                when(retrospectiveService.getRetrospectiveRevision("NonExistentRetrospective"))
+                                .thenThrow(new RetrospectiveNotFoundException(
+                                                "Retrospective not found: NonExistentRetrospective"));
+
+                // Perform GET request and expect 404
+                mockMvc.perform(MockMvcRequestBuilders
+                                .get("/retrospectives/{retrospectiveName}", "NonExistentRetrospective")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isNotFound());
+        }
+
+        @Test
+        void testGetFeedbackStats() throws Exception {
+                // Prepare test data
+                Map<FeedbackType, Long> feedbackCounts = new EnumMap<>(FeedbackType.class);
+                feedbackCounts.put(FeedbackType.IDEA, 3L);
+                feedbackCounts.put(FeedbackType.PRAISE, 1L);
+                FeedbackStatsDto feedbackStatsDto = new FeedbackStatsDto("Retrospective 1", 4, feedbackCounts,
+                                List.of(new ParticipantFeedbackStatsDto("Chandra", 4, feedbackCounts)));
+
+                // Mock service response
+                when(retrospectiveService.getFeedbackStats("Retrospective 1")).thenReturn(feedbackStatsDto);
+
+                // Perform GET request
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives/{retrospectiveName}/stats",
+                                "Retrospective 1").accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(jsonPath("$.feedbackItemCount").value(4))
+                                .andExpect(jsonPath("$.feedbackCounts.IDEA").value(3))
+                                .andExpect(jsonPath("$.participants[0].name").value("Chandra"))
+                                .andExpect(jsonPath("$.participants[0].feedbackCounts.PRAISE").value(1));
+        }
+
+        @Test
+        void testGetFeedbackStats_RetrospectiveNotFound() throws Exception {
+                // Mock service response
+                when(retrospectiveService.getFeedbackStats("NonExistentRetrospective"))
+                                .thenThrow(new RetrospectiveNotFoundException(
+                                                "Retrospective not found: NonExistentRetrospective"));
+
+                // Perform GET request and expect 404
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives/{retrospectiveName}/stats",
+                                "NonExistentRetrospective").accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isNotFound());
+        }
+
+        @Test
+        void testSearchFeedback() throws Exception {
+                // Prepare test data
+                UUID feedbackItemId = UUID.randomUUID();
+                FeedbackSearchResultDto result = new FeedbackSearchResultDto("Retrospective 1",
+                                new FeedbackItemDto(feedbackItemId, "Chandra", "Smooth deployment",
+                                                FeedbackType.POSITIVE),
+                                1.5);
+
+                // Mock service response
+                when(feedbackSearchService.searchFeedback("deployment", 0, 10))
+                                .thenReturn(new PageImpl<>(List.of(result), PageRequest.of(0, 10), 1));
+
+                // Perform GET request
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives/search/feedback")
+                                .param("q", "deployment").accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(jsonPath("$.totalElements").value(1))
+                                .andExpect(jsonPath("$.content[0].retrospectiveName").value("Retrospective 1"))
+                                .andExpect(jsonPath("$.content[0].feedbackItem.id").value(feedbackItemId.toString()))
+                                .andExpect(jsonPath("$.content[0].score").value(1.5));
+        }
+
+        @Test
+        void testSearchFeedback_QueryRequired() throws Exception {
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives/search/feedback")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+                verifyNoInteractions(feedbackSearchService);
+        }
+
+        @Test
+        void testSearchFeedback_InvalidPage() throws Exception {
+                when(feedbackSearchService.searchFeedback("x", 400_000_000, 10))
+                                .thenThrow(new InvalidPageRequestException("Invalid page 400000000 of size 10"));
+
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives/search/feedback")
+                                .param("q", "x").param("page", "400000000")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+        }
+
         @Test
         void testAddFeedbackItem_Success() throws Exception {
                 // Prepare test data
                 String retrospectiveName = "Retrospective 1";
-
-                // Mocking values for RetrospectiveDto
-                RetrospectiveDto retrospectiveDto = new RetrospectiveDto();
-                retrospectiveDto.setName("Sprint 13 Retrospective");
-                retrospectiveDto.setSummary("Evaluation of the second sprint");
-                retrospectiveDto.setDate(LocalDate.of(2024, 4, 10));
-                retrospectiveDto.setParticipants(Arrays.asList("Chandra Penta", "balu", "pramod"));
-                retrospectiveDto.setFeedbackItems(Collections.singletonList(
-                                new FeedbackItemDto("chandu", "This is the feedback body", FeedbackType.POSITIVE)));
+                UUID feedbackItemId = UUID.randomUUID();
 
                 FeedbackItemDto feedbackItemDto = new FeedbackItemDto("Chandra Penta", "went live!",
                                 FeedbackType.POSITIVE);
+                FeedbackItemDto createdFeedbackItemDto = new FeedbackItemDto(feedbackItemId, "Chandra Penta",
+                                "went live!", FeedbackType.POSITIVE);
 
                 // Mock service response
-                when(retrospectiveService.addFeedbackItem(eq(retrospectiveName), any(FeedbackItemDto.class)))
-                                .thenReturn(retrospectiveDto);
+                when(feedbackWriteCoalescer.addFeedbackItem(eq(retrospectiveName), any(FeedbackItemDto.class)))
+                                .thenReturn(createdFeedbackItemDto);
 
                 // Perform POST request
                 mockMvc.perform(MockMvcRequestBuilders
@@ -100,21 +453,13 @@ class RetrospectiveControllerTests {
                                 .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
                                 .andExpect(MockMvcResultMatchers.status().isCreated())
                                 .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
-                                .andExpect(MockMvcResultMatchers.jsonPath("$.name").value("Sprint 13 Retrospective"))
-                                .andExpect(MockMvcResultMatchers.jsonPath("$.summary")
-                                                .value("Evaluation of the second sprint"))
-                                .andExpect(MockMvcResultMatchers.jsonPath("$.date").exists())
-                                .andExpect(MockMvcResultMatchers.jsonPath("$.date").value("2024-04-10"))
-                                .andExpect(MockMvcResultMatchers.jsonPath("$.participants").isArray())
-                                .andExpect(MockMvcResultMatchers.jsonPath("$.participants[0]").value("Chandra Penta"))
-                                .andExpect(MockMvcResultMatchers.jsonPath("$.participants[1]").value("balu"))
-                                .andExpect(MockMvcResultMatchers.jsonPath("$.participants[2]").value("pramod"))
-                                .andExpect(MockMvcResultMatchers.jsonPath("$.feedbackItems").isArray())
-                                .andExpect(MockMvcResultMatchers.jsonPath("$.feedbackItems[0].name").value("chandu"))
-                                .andExpect(MockMvcResultMatchers.jsonPath("$.feedbackItems[0].body")
-                                                .value("This is the feedback body"))
-                                .andExpect(MockMvcResultMatchers.jsonPath("$.feedbackItems[0].feedbackType")
-                                                .value("POSITIVE"));
+                                .andExpect(MockMvcResultMatchers.header().string("Location",
+                                                endsWith("/retrospectives/Retrospective%201/feedback/"
+                                                                + feedbackItemId)))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.id").value(feedbackItemId.toString()))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.name").value("Chandra Penta"))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.body").value("went live!"))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.feedbackType").value("POSITIVE"));
         }
 
         @Test
@@ -125,7 +470,7 @@ class RetrospectiveControllerTests {
                                 FeedbackType.POSITIVE);
 
                 // Mock service response
-                when(retrospectiveService.addFeedbackItem(eq(retrospectiveName), any(FeedbackItemDto.class)))
+                when(feedbackWriteCoalescer.addFeedbackItem(eq(retrospectiveName), any(FeedbackItemDto.class)))
                                 .thenThrow(new RetrospectiveNotFoundException(
                                                 "Retrospective not found: " + retrospectiveName));
 
@@ -138,25 +483,87 @@ class RetrospectiveControllerTests {
         }
 
         @Test
-        void testUpdateFeedbackItem_Success() throws Exception {
+        void testAddFeedbackItem_TimedOut() throws Exception {
                 // Prepare test data
                 String retrospectiveName = "Retrospective 1";
-                String feedbackItemId = "1";
                 FeedbackItemDto feedbackItemDto = new FeedbackItemDto("Chandra Penta", "Great job!",
                                 FeedbackType.POSITIVE);
 
                 // Mock service response
-                RetrospectiveDto updatedRetrospectiveDto = new RetrospectiveDto();
-                updatedRetrospectiveDto.setName("Sprint 13 Retrospective");
-                updatedRetrospectiveDto.setSummary("summary");
-                updatedRetrospectiveDto.setDate(LocalDate.of(2024, 4, 15));
-                updatedRetrospectiveDto.setParticipants(Arrays.asList("pramod", "balu"));
-                FeedbackItemDto updatedFeedbackItemDto = new FeedbackItemDto("Chandra Penta", "Great job!",
+                when(feedbackWriteCoalescer.addFeedbackItem(eq(retrospectiveName), any(FeedbackItemDto.class)))
+                                .thenThrow(new FeedbackWriteTimeoutException(
+                                                "Timed out adding feedback to " + retrospectiveName));
+
+                // Perform POST request and expect 503, which the client may retry
+                mockMvc.perform(MockMvcRequestBuilders
+                                .post("/retrospectives/{retrospectiveName}/feedback", retrospectiveName)
+                                .content(objectMapper.writeValueAsString(feedbackItemDto))
+                                .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isServiceUnavailable());
+        }
+
+        @Test
+        void testAddFeedbackItems_Success() throws Exception {
+                // Prepare test data
+                String retrospectiveName = "Retrospective 1";
+                List<FeedbackItemDto> feedbackItemDtos = Arrays.asList(
+                                new FeedbackItemDto("Chandra Penta", "went live!", FeedbackType.POSITIVE),
+                                new FeedbackItemDto("Balu", "flaky pipeline", FeedbackType.NEGATIVE));
+                List<FeedbackItemDto> createdFeedbackItemDtos = Arrays.asList(
+                                new FeedbackItemDto(UUID.randomUUID(), "Chandra Penta", "went live!",
+                                                FeedbackType.POSITIVE),
+                                new FeedbackItemDto(UUID.randomUUID(), "Balu", "flaky pipeline",
+                                                FeedbackType.NEGATIVE));
+
+                // Mock service response
+                when(retrospectiveService.addFeedbackItems(eq(retrospectiveName), eq(feedbackItemDtos)))
+                                .thenReturn(createdFeedbackItemDtos);
+
+                // Perform POST request
+                mockMvc.perform(MockMvcRequestBuilders
+                                .post("/retrospectives/{retrospectiveName}/feedback/batch", retrospectiveName)
+                                .content(objectMapper.writeValueAsString(new FeedbackItemBatchDto(feedbackItemDtos)))
+                                .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isCreated())
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.feedbackItems[0].id")
+                                                .value(createdFeedbackItemDtos.get(0).getId().toString()))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.feedbackItems[1].id")
+                                                .value(createdFeedbackItemDtos.get(1).getId().toString()))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.feedbackItems[1].body")
+                                                .value("flaky pipeline"));
+        }
+
+        @Test
+        void testAddFeedbackItems_RejectsWholeBatchWhenOneItemIsInvalid() throws Exception {
+                // Prepare test data
+                List<FeedbackItemDto> feedbackItemDtos = Arrays.asList(
+                                new FeedbackItemDto("Chandra Penta", "went live!", FeedbackType.POSITIVE),
+                                new FeedbackItemDto("", "no author", null));
+
+                // Perform POST request and expect 400
+                mockMvc.perform(MockMvcRequestBuilders
+                                .post("/retrospectives/{retrospectiveName}/feedback/batch", "Retrospective 1")
+                                .content(objectMapper.writeValueAsString(new FeedbackItemBatchDto(feedbackItemDtos)))
+                                .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+                verifyNoInteractions(retrospectiveService);
+        }
+
+        @Test
+        void testUpdateFeedbackItem_Success() throws Exception {
+                // Prepare test data
+                String retrospectiveName = "Retrospective 1";
+                UUID feedbackItemUUID = UUID.randomUUID();
+                String feedbackItemId = feedbackItemUUID.toString();
+                FeedbackItemDto feedbackItemDto = new FeedbackItemDto("Chandra Penta", "Great job!",
                                 FeedbackType.POSITIVE);
-                updatedRetrospectiveDto.setFeedbackItems(Collections.singletonList(updatedFeedbackItemDto));
 
-                when(retrospectiveService.updateFeedbackItem(eq(retrospectiveName), eq(feedbackItemId),
-                                any(FeedbackItemDto.class))).thenReturn(updatedRetrospectiveDto);
+                // Mock service response
+                FeedbackItemDto updatedFeedbackItemDto = new FeedbackItemDto(feedbackItemUUID, "Chandra Penta",
+                                "Great job!", FeedbackType.POSITIVE);
+
+                when(feedbackItemUpdateRetrier.updateFeedbackItem(eq(retrospectiveName), eq(feedbackItemId),
+                                any(FeedbackItemDto.class))).thenReturn(updatedFeedbackItemDto);
 
                 // Perform PUT request
                 mockMvc.perform(MockMvcRequestBuilders
@@ -166,19 +573,10 @@ class RetrospectiveControllerTests {
                                 .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
                                 .andExpect(MockMvcResultMatchers.status().isOk())
                                 .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
-                                .andExpect(MockMvcResultMatchers.jsonPath("$.name").value("Sprint 13 Retrospective"))
-                                .andExpect(MockMvcResultMatchers.jsonPath("$.summary").value("summary"))
-                                .andExpect(MockMvcResultMatchers.jsonPath("$.date").value("2024-04-15"))
-                                .andExpect(MockMvcResultMatchers.jsonPath("$.participants").isArray())
-                                .andExpect(MockMvcResultMatchers.jsonPath("$.participants[0]").value("pramod"))
-                                .andExpect(MockMvcResultMatchers.jsonPath("$.participants[1]").value("balu"))
-                                .andExpect(MockMvcResultMatchers.jsonPath("$.feedbackItems").isArray())
-                                .andExpect(MockMvcResultMatchers.jsonPath("$.feedbackItems[0].name")
-                                                .value("Chandra Penta"))
-                                .andExpect(MockMvcResultMatchers.jsonPath("$.feedbackItems[0].body")
-                                                .value("Great job!"))
-                                .andExpect(MockMvcResultMatchers.jsonPath("$.feedbackItems[0].feedbackType")
-                                                .value("POSITIVE"));
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.id").value(feedbackItemId))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.name").value("Chandra Penta"))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.body").value("Great job!"))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.feedbackType").value("POSITIVE"));
         }
 
         @Test
@@ -190,7 +588,7 @@ class RetrospectiveControllerTests {
                                 FeedbackType.POSITIVE);
 
                 // Mock service response
-                when(retrospectiveService.updateFeedbackItem(eq(retrospectiveName), eq(feedbackItemId),
+                when(feedbackItemUpdateRetrier.updateFeedbackItem(eq(retrospectiveName), eq(feedbackItemId),
                                 any(FeedbackItemDto.class)))
                                 .thenThrow(new RetrospectiveNotFoundException(
                                                 "Retrospective not found: " + retrospectiveName));
@@ -213,7 +611,7 @@ class RetrospectiveControllerTests {
                                 FeedbackType.POSITIVE);
 
                 // Mock service response
-                when(retrospectiveService.updateFeedbackItem(eq(retrospectiveName), eq(feedbackItemId),
+                when(feedbackItemUpdateRetrier.updateFeedbackItem(eq(retrospectiveName), eq(feedbackItemId),
                                 any(FeedbackItemDto.class)))
                                 .thenThrow(new FeedbackItemNotFoundException(
                                                 "Feedback item not found: " + feedbackItemId));
@@ -227,6 +625,29 @@ class RetrospectiveControllerTests {
                                 .andExpect(MockMvcResultMatchers.status().isNotFound());
         }
 
+        @Test
+        void testUpdateFeedbackItem_Conflict() throws Exception {
+                // Prepare test data
+                String retrospectiveName = "Retrospective 1";
+                String feedbackItemId = UUID.randomUUID().toString();
+                FeedbackItemDto feedbackItemDto = new FeedbackItemDto(null, "Chandra Penta", "Great job!",
+                                FeedbackType.POSITIVE, 2L);
+
+                // Mock service response
+                when(feedbackItemUpdateRetrier.updateFeedbackItem(eq(retrospectiveName), eq(feedbackItemId),
+                                eq(feedbackItemDto)))
+                                .thenThrow(new FeedbackItemConflictException(
+                                                "Feedback item was changed concurrently: " + feedbackItemId));
+
+                // Perform PUT request with the edited version and expect 409
+                mockMvc.perform(MockMvcRequestBuilders
+                                .put("/retrospectives/{retrospectiveName}/feedback/{feedbackItemId}",
+                                                retrospectiveName, feedbackItemId)
+                                .content(objectMapper.writeValueAsString(feedbackItemDto))
+                                .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isConflict());
+        }
+
         @Test
         void testGetAllRetrospectives() throws Exception {
                 // Prepare test data
@@ -235,19 +656,63 @@ class RetrospectiveControllerTests {
 
                 Page<RetrospectiveDto> page = new PageImpl<>(Collections.singletonList(retrospectiveDto));
 
+                Page<RetrospectiveRevision> revisions = new PageImpl<>(Collections.singletonList(REVISION),
+                                PageRequest.of(0, 10), 1);
+
                 // Mock service response
-                when(retrospectiveService.getAllRetrospectives(anyInt(), anyInt())).thenReturn(page);
+                when(retrospectiveService.getRetrospectiveRevisions(0, 10)).thenReturn(revisions);
+                when(retrospectiveService.getRetrospectives(revisions, RetrospectiveFields.ALL)).thenReturn(page);
 
                 // Perform GET request
-                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives")
+                MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives")
                                 .param("page", "0")
                                 .param("pageSize", "10")
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .accept(MediaType.APPLICATION_JSON))
                                 .andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(header().string(HttpHeaders.ETAG, endsWith("-json\"")))
                                 .andExpect(MockMvcResultMatchers.jsonPath("$.content").isArray())
                                 .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].name")
-                                                .value(retrospectiveDto.getName()));
+                                                .value(retrospectiveDto.getName()))
+                                .andReturn();
+
+                // The same page revalidates with the returned ETag
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives")
+                                .param("page", "0")
+                                .param("pageSize", "10")
+                                .header(HttpHeaders.IF_NONE_MATCH, result.getResponse().getHeader(HttpHeaders.ETAG))
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                                .andExpect(header().string(HttpHeaders.ETAG,
+                                                result.getResponse().getHeader(HttpHeaders.ETAG)));
+                verify(retrospectiveService, times(1)).getRetrospectives(revisions, RetrospectiveFields.ALL);
+
+                // So does a field selection, whose tag contains commas
+                when(retrospectiveService.getRetrospectives(eq(revisions), any(RetrospectiveFields.class)))
+                                .thenReturn(page);
+                MvcResult selected = mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives")
+                                .param("fields", "name,date")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isOk())
+                                .andReturn();
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives")
+                                .param("fields", "name,date")
+                                .header(HttpHeaders.IF_NONE_MATCH, selected.getResponse().getHeader(HttpHeaders.ETAG))
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isNotModified());
+
+                // A new revision of a retrospective on the page changes the ETag
+                Page<RetrospectiveRevision> changed = new PageImpl<>(
+                                Collections.singletonList(new RetrospectiveRevision(REVISION.id(), 5)),
+                                PageRequest.of(0, 10), 1);
+                when(retrospectiveService.getRetrospectiveRevisions(0, 10)).thenReturn(changed);
+                when(retrospectiveService.getRetrospectives(changed, RetrospectiveFields.ALL)).thenReturn(page);
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives")
+                                .param("page", "0")
+                                .param("pageSize", "10")
+                                .header(HttpHeaders.IF_NONE_MATCH, result.getResponse().getHeader(HttpHeaders.ETAG))
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isOk());
         }
 
         @Test
@@ -259,8 +724,8 @@ class RetrospectiveControllerTests {
                 Page<RetrospectiveDto> page = new PageImpl<>(Collections.singletonList(retrospectiveDto));
 
                 // Mock service response
-                when(retrospectiveService.searchRetrospectivesByDate(any(LocalDate.class), anyInt(), anyInt()))
-                                .thenReturn(page);
+                when(retrospectiveService.searchRetrospectivesByDateRange(LocalDate.of(2023, 1, 1),
+                                LocalDate.of(2023, 1, 1), 0, 10, RetrospectiveFields.ALL)).thenReturn(page);
 
                 // Perform GET request
                 mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives/search")
@@ -274,4 +739,385 @@ class RetrospectiveControllerTests {
                                 .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].name")
                                                 .value(retrospectiveDto.getName()));
         }
+
+        @Test
+        void testScrollAllRetrospectives() throws Exception {
+                // Prepare test data
+                RetrospectiveDto retrospectiveDto = new RetrospectiveDto();
+                retrospectiveDto.setName("Retrospective 1");
+
+                CursorPageDto<RetrospectiveDto> page = new CursorPageDto<>(
+                                Collections.singletonList(retrospectiveDto), "next-cursor", null);
+
+                // Mock service response
+                when(retrospectiveService.scrollAllRetrospectives("", 10, false, RetrospectiveFields.ALL))
+                                .thenReturn(page);
+
+                // Perform GET request
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives")
+                                .param("cursor", "")
+                                .param("pageSize", "10")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].name")
+                                                .value(retrospectiveDto.getName()))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor").value("next-cursor"))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").doesNotExist());
+        }
+
+        @Test
+        void testScrollRetrospectivesByDate_InvalidCursor() throws Exception {
+                // Mock service response
+                when(retrospectiveService.scrollRetrospectivesByDateRange(any(LocalDate.class),
+                                any(LocalDate.class), eq("bogus"), anyInt(), anyBoolean(),
+                                any(RetrospectiveFields.class)))
+                                .thenThrow(new InvalidCursorException("Invalid cursor: bogus"));
+
+                // Perform GET request and expect 400
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives/search")
+                                .param("date", "2023-01-01")
+                                .param("cursor", "bogus")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+        }
+
+        @Test
+        void testScrollAllRetrospectives_CombinedWithAnotherListing() throws Exception {
+                // Perform GET requests that select two listings at once and expect 400
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives")
+                                .param("cursor", "")
+                                .param("view", "summary")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives/search")
+                                .param("date", "2023-01-01")
+                                .param("cursor", "")
+                                .param("view", "summary")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives")
+                                .param("names", "Retrospective 1")
+                                .param("cursor", "")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives")
+                                .param("names", "Retrospective 1")
+                                .param("view", "summary")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives")
+                                .param("names", "Retrospective 1")
+                                .param("cursor", "")
+                                .param("view", "summary")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+                verifyNoInteractions(retrospectiveService);
+        }
+
+        @Test
+        void testGetRetrospectiveSummaries() throws Exception {
+                // Prepare test data
+                RetrospectiveSummaryDto summaryDto = new RetrospectiveSummaryDto("Retrospective 1", "summary",
+                                LocalDate.of(2024, 4, 10), 2, 1L, 0L, 3L, 0L);
+
+                Page<RetrospectiveSummaryDto> page = new PageImpl<>(Collections.singletonList(summaryDto));
+
+                // Mock service response
+                when(retrospectiveService.getRetrospectiveSummaries(0, 10)).thenReturn(page);
+
+                // Perform GET request
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives")
+                                .param("view", "summary")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].name").value("Retrospective 1"))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].participantCount").value(2))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].feedbackItemCount").value(4))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].feedbackCounts.IDEA").value(3))
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].participants").doesNotExist())
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].feedbackItems")
+                                                .doesNotExist());
+        }
+
+        @Test
+        void testSearchRetrospectivesByDateRange() throws Exception {
+                // Prepare test data
+                RetrospectiveDto retrospectiveDto = new RetrospectiveDto();
+                retrospectiveDto.setName("Retrospective 1");
+
+                Page<RetrospectiveDto> page = new PageImpl<>(Collections.singletonList(retrospectiveDto));
+
+                // Mock service response
+                when(retrospectiveService.searchRetrospectivesByDateRange(LocalDate.of(2023, 1, 1),
+                                LocalDate.of(2023, 3, 31), 0, 10, RetrospectiveFields.ALL)).thenReturn(page);
+
+                // Perform GET request
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives/search")
+                                .param("from", "2023-01-01")
+                                .param("to", "2023-03-31")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].name")
+                                                .value(retrospectiveDto.getName()));
+        }
+
+        @Test
+        void testGetRetrospective_Cbor() throws Exception {
+                // Prepare test data
+                RetrospectiveDto retrospectiveDto = new RetrospectiveDto("Retrospective 1", "Summary",
+                                LocalDate.of(2024, 4, 10), Arrays.asList("Chandra", "Balu"),
+                                Collections.singletonList(new FeedbackItemDto("Chandra", "Ship it",
+                                                FeedbackType.PRAISE)));
+
+                // Mock service response
+                when(retrospectiveService.getRetrospectiveRevision("Retrospective 1")).thenReturn(REVISION);
+                when(retrospectiveService.getRevisedRetrospective("Retrospective 1", RetrospectiveFields.ALL))
+                                .thenReturn(new RevisedRetrospective(REVISION, retrospectiveDto));
+
+                // Perform GET request and decode the CBOR body
+                MvcResult result = mockMvc
+                                .perform(MockMvcRequestBuilders
+                                                .get("/retrospectives/{retrospectiveName}", "Retrospective 1")
+                                                .accept(MediaType.APPLICATION_CBOR))
+                                .andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                                .andExpect(header().string(HttpHeaders.ETAG, "\"" + REVISION.id() + "-4-cbor\""))
+                                .andReturn();
+                assertEquals(retrospectiveDto, JacksonConfig.configure(new CBORMapper())
+                                .readValue(result.getResponse().getContentAsByteArray(), RetrospectiveDto.class));
+        }
+
+        @Test
+        void testGetRetrospective_PastRetrospectiveIsRenderedOnce() throws Exception {
+                // Prepare test data, dated well before the minimum age of rendered retrospectives
+                RetrospectiveDto retrospectiveDto = new RetrospectiveDto("Retrospective 1", "Summary",
+                                LocalDate.of(2024, 4, 10), Arrays.asList("Chandra", "Balu"), null);
+
+                // Mock service response
+                when(retrospectiveService.getRetrospectiveRevision("Retrospective 1")).thenReturn(REVISION);
+                when(retrospectiveService.getRevisedRetrospective("Retrospective 1", RetrospectiveFields.ALL))
+                                .thenReturn(new RevisedRetrospective(REVISION, retrospectiveDto));
+
+                // Perform GET requests and expect the same body, loaded only once
+                for (int i = 0; i < 2; i++) {
+                        mockMvc.perform(MockMvcRequestBuilders
+                                        .get("/retrospectives/{retrospectiveName}", "Retrospective 1")
+                                        .accept(MediaType.APPLICATION_JSON))
+                                        .andExpect(MockMvcResultMatchers.status().isOk())
+                                        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                                        .andExpect(jsonPath("$.name").value("Retrospective 1"))
+                                        .andExpect(jsonPath("$.participants[1]").value("Balu"));
+                }
+                verify(retrospectiveService, times(1)).getRevisedRetrospective("Retrospective 1",
+                                RetrospectiveFields.ALL);
+        }
+
+        @Test
+        void testGetRetrospective_CurrentRetrospectiveIsNotCached() throws Exception {
+                // Prepare test data
+                RetrospectiveDto retrospectiveDto = new RetrospectiveDto("Retrospective 1", "Summary",
+                                LocalDate.now(), Arrays.asList("Chandra", "Balu"), null);
+
+                // Mock service response
+                when(retrospectiveService.getRetrospectiveRevision("Retrospective 1")).thenReturn(REVISION);
+                when(retrospectiveService.getRevisedRetrospective("Retrospective 1", RetrospectiveFields.ALL))
+                                .thenReturn(new RevisedRetrospective(REVISION, retrospectiveDto));
+
+                // Perform GET requests and expect a load for each
+                for (int i = 0; i < 2; i++) {
+                        mockMvc.perform(MockMvcRequestBuilders
+                                        .get("/retrospectives/{retrospectiveName}", "Retrospective 1")
+                                        .accept(MediaType.APPLICATION_JSON))
+                                        .andExpect(MockMvcResultMatchers.status().isOk());
+                }
+                verify(retrospectiveService, times(2)).getRevisedRetrospective("Retrospective 1",
+                                RetrospectiveFields.ALL);
+        }
+
+        @Test
+        void testGetRetrospectivesByName() throws Exception {
+                // Prepare test data
+                RetrospectiveDto retrospectiveDto1 = new RetrospectiveDto("Retrospective 1", "Summary",
+                                LocalDate.of(2024, 4, 10), Arrays.asList("Chandra", "Balu"), null);
+                RetrospectiveDto retrospectiveDto2 = new RetrospectiveDto("Retrospective 2", "Summary",
+                                LocalDate.of(2024, 4, 24), Arrays.asList("Pramod"), null);
+
+                // Mock service response
+                when(retrospectiveService.getRetrospectiveRevision(anyString())).thenReturn(REVISION);
+                when(retrospectiveService.getRevisedRetrospective("Retrospective 1", RetrospectiveFields.ALL))
+                                .thenReturn(new RevisedRetrospective(REVISION, retrospectiveDto1));
+                when(retrospectiveService.getRevisedRetrospective("Retrospective 2", RetrospectiveFields.ALL))
+                                .thenReturn(new RevisedRetrospective(REVISION, retrospectiveDto2));
+
+                // Perform GET requests in JSON, XML and CBOR
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives")
+                                .param("names", "Retrospective 1", "Retrospective 2")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                                .andExpect(jsonPath("$.length()").value(2))
+                                .andExpect(jsonPath("$[0].name").value("Retrospective 1"))
+                                .andExpect(jsonPath("$[1].participants[0]").value("Pramod"));
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives")
+                                .param("names", "Retrospective 2,Retrospective 1")
+                                .accept(MediaType.APPLICATION_XML))
+                                .andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(xpath("count(/retrospectives/RetrospectiveDto)").number(2.0))
+                                .andExpect(xpath("/retrospectives/RetrospectiveDto[1]/name").string("Retrospective 2"));
+                MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives")
+                                .param("names", "Retrospective 1", "Retrospective 2")
+                                .accept(MediaType.APPLICATION_CBOR))
+                                .andExpect(MockMvcResultMatchers.status().isOk())
+                                .andReturn();
+                assertEquals(List.of(retrospectiveDto1, retrospectiveDto2), Arrays.asList(JacksonConfig
+                                .configure(new CBORMapper())
+                                .readValue(result.getResponse().getContentAsByteArray(), RetrospectiveDto[].class)));
+
+                // Each retrospective was rendered once per media type
+                verify(retrospectiveService, times(3)).getRevisedRetrospective("Retrospective 1",
+                                RetrospectiveFields.ALL);
+                verify(retrospectiveService, times(3)).getRevisedRetrospective("Retrospective 2",
+                                RetrospectiveFields.ALL);
+        }
+
+        @Test
+        void testGetRetrospectivesByName_Smile() throws Exception {
+                // Prepare test data
+                RetrospectiveDto retrospectiveDto = new RetrospectiveDto("Retrospective 1", "Summary",
+                                LocalDate.of(2024, 4, 10), Arrays.asList("Chandra", "Balu"), null);
+
+                // Mock service response
+                when(retrospectiveService.getRevisedRetrospective("Retrospective 1", RetrospectiveFields.ALL))
+                                .thenReturn(new RevisedRetrospective(REVISION, retrospectiveDto));
+
+                // Perform GET request and decode the Smile list
+                MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives")
+                                .param("names", "Retrospective 1")
+                                .accept(BinaryFormatConfig.APPLICATION_SMILE))
+                                .andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(content().contentType(BinaryFormatConfig.APPLICATION_SMILE))
+                                .andReturn();
+                assertEquals(List.of(retrospectiveDto), Arrays.asList(JacksonConfig.configure(new SmileMapper())
+                                .readValue(result.getResponse().getContentAsByteArray(), RetrospectiveDto[].class)));
+        }
+
+        @Test
+        void testGetRetrospectivesByName_TooManyNames() throws Exception {
+                String[] names = IntStream.rangeClosed(0, RetrospectiveService.MAX_PAGE_SIZE)
+                                .mapToObj(i -> "Retrospective " + i).toArray(String[]::new);
+
+                // Perform GET request and expect 400 before anything is loaded
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives")
+                                .param("names", names)
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+                verifyNoInteractions(retrospectiveService);
+        }
+
+        @Test
+        void testGetRetrospectivesByName_NotFound() throws Exception {
+                // Mock service response
+                when(retrospectiveService.getRetrospectiveRevision("Retrospective 1")).thenReturn(REVISION);
+                when(retrospectiveService.getRevisedRetrospective("Retrospective 1", RetrospectiveFields.ALL))
+                                .thenReturn(new RevisedRetrospective(REVISION, new RetrospectiveDto()));
+                when(retrospectiveService.getRetrospectiveRevision("Unknown"))
+                                .thenThrow(new RetrospectiveNotFoundException("Retrospective not found: Unknown"));
+
+                // Perform GET request and expect 404
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives")
+                                .param("names", "Retrospective 1", "Unknown")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isNotFound());
+        }
+
+        @Test
+        void testCreateRetrospective_Smile() throws Exception {
+                // Prepare test data
+                RetrospectiveDto retrospectiveDto = new RetrospectiveDto("Retrospective 1", "Summary",
+                                LocalDate.of(2024, 4, 10), Arrays.asList("Chandra", "Balu"), null);
+                ObjectMapper smileMapper = JacksonConfig.configure(new SmileMapper());
+
+                // Mock service response
+                when(retrospectiveService.createRetrospective(retrospectiveDto)).thenReturn(retrospectiveDto);
+
+                // Perform POST request with a Smile body and read the Smile response
+                MvcResult result = mockMvc.perform(MockMvcRequestBuilders.post("/retrospectives")
+                                .content(smileMapper.writeValueAsBytes(retrospectiveDto))
+                                .contentType(BinaryFormatConfig.APPLICATION_SMILE)
+                                .accept(BinaryFormatConfig.APPLICATION_SMILE))
+                                .andExpect(status().isCreated())
+                                .andExpect(content().contentType(BinaryFormatConfig.APPLICATION_SMILE))
+                                .andReturn();
+                assertEquals(retrospectiveDto, smileMapper.readValue(result.getResponse().getContentAsByteArray(),
+                                RetrospectiveDto.class));
+        }
+
+        @Test
+        void testSearchRetrospectivesByDateRange_InvalidRange() throws Exception {
+                // Perform GET requests and expect 400
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives/search")
+                                .param("from", "2023-03-31")
+                                .param("to", "2023-01-01")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives/search")
+                                .param("date", "2023-01-01")
+                                .param("from", "2023-01-01")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+                mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives/search")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+                verifyNoInteractions(retrospectiveService);
+        }
+
+        @Test
+        void testExportRetrospectives_StreamsNdjsonByDefault() throws Exception {
+                // Mock export writing two lines
+                when(retrospectiveExportService.writeNdjson(any(OutputStream.class))).thenAnswer(invocation -> {
+                        invocation.getArgument(0, OutputStream.class).write(
+                                        "{\"name\":\"Retrospective 1\"}\n{\"name\":\"Retrospective 2\"}\n"
+                                                        .getBytes(StandardCharsets.UTF_8));
+                        return 2L;
+                });
+
+                // Perform GET request and wait for the streamed body
+                MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives/export"))
+                                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                                .andReturn();
+                mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                                .andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON))
+                                .andExpect(MockMvcResultMatchers.content().string(
+                                                "{\"name\":\"Retrospective 1\"}\n{\"name\":\"Retrospective 2\"}\n"));
+                verify(retrospectiveExportService, never()).writeXml(any());
+        }
+
+        @Test
+        void testExportRetrospectives_StreamsXmlWhenAccepted() throws Exception {
+                // Perform GET request and wait for the streamed body
+                MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives/export")
+                                .accept(MediaType.APPLICATION_XML))
+                                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                                .andReturn();
+                mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                                .andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_XML));
+                verify(retrospectiveExportService).writeXml(any(OutputStream.class));
+                verify(retrospectiveExportService, never()).writeNdjson(any());
+        }
+
+        @Test
+        void testExportRetrospectives_FollowsQualityValues() throws Exception {
+                // Perform GET request preferring NDJSON over XML and wait for the streamed body
+                MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/retrospectives/export")
+                                .header(HttpHeaders.ACCEPT, "application/xml;q=0.5, application/x-ndjson"))
+                                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                                .andReturn();
+                mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                                .andExpect(MockMvcResultMatchers.status().isOk())
+                                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON));
+                verify(retrospectiveExportService).writeNdjson(any(OutputStream.class));
+                verify(retrospectiveExportService, never()).writeXml(any());
+        }
 }
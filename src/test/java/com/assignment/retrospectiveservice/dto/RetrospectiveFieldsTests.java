@@ -0,0 +1,67 @@
+package com.assignment.retrospectiveservice.dto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.*;
+
+import com.assignment.retrospectiveservice.config.JacksonConfig;
+import com.assignment.retrospectiveservice.exception.InvalidFieldsException;
+import com.assignment.retrospectiveservice.model.FeedbackType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class RetrospectiveFieldsTests {
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    @Test
+    void testParse_MissingOrEmptySelectsAllFields() {
+        assertSame(RetrospectiveFields.ALL, RetrospectiveFields.parse(null));
+        assertSame(RetrospectiveFields.ALL, RetrospectiveFields.parse(" "));
+        assertSame(RetrospectiveFields.ALL,
+                RetrospectiveFields.parse("name,summary,date,participants,feedbackItems"));
+    }
+
+    @Test
+    void testParse_NestedFieldsSelectTheirCollection() {
+        RetrospectiveFields fields = RetrospectiveFields.parse(" name , feedbackItems.feedbackType,name");
+
+        assertTrue(fields.includes("name"));
+        assertTrue(fields.includes(RetrospectiveFields.FEEDBACK_ITEMS));
+        assertFalse(fields.includes(RetrospectiveFields.PARTICIPANTS));
+        assertEquals("feedbackItems.feedbackType,name", fields.toString());
+    }
+
+    @Test
+    void testParse_UnknownFieldsAreRejected() {
+        assertThrows(InvalidFieldsException.class, () -> RetrospectiveFields.parse("name,bogus"));
+        assertThrows(InvalidFieldsException.class, () -> RetrospectiveFields.parse("feedbackItems.bogus"));
+        assertThrows(InvalidFieldsException.class, () -> RetrospectiveFields.parse("participants.name"));
+        assertThrows(InvalidFieldsException.class, () -> RetrospectiveFields.parse(","));
+    }
+
+    @Test
+    void testFilters_WriteOnlySelectedProperties() throws JsonProcessingException {
+        RetrospectiveDto retrospectiveDto = new RetrospectiveDto("Retrospective 1", "Summary",
+                LocalDate.of(2024, 4, 10), List.of("Chandra"),
+                List.of(new FeedbackItemDto(UUID.randomUUID(), "Chandra", "Ship it", FeedbackType.PRAISE)));
+
+        String json = objectMapper.writer(RetrospectiveFields.parse("name,feedbackItems.feedbackType").filters())
+                .writeValueAsString(retrospectiveDto);
+
+        assertEquals("{\"name\":\"Retrospective 1\",\"feedbackItems\":[{\"feedbackType\":\"PRAISE\"}]}", json);
+    }
+
+    @Test
+    void testFilters_DefaultWritesEveryProperty() throws JsonProcessingException {
+        FeedbackItemDto feedbackItemDto = new FeedbackItemDto(null, "Chandra", "Ship it", FeedbackType.PRAISE);
+
+        String json = objectMapper.writeValueAsString(feedbackItemDto);
+
+        assertEquals("{\"id\":null,\"name\":\"Chandra\",\"body\":\"Ship it\",\"feedbackType\":\"PRAISE\"}", json);
+    }
+}
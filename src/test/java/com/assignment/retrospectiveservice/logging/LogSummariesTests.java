@@ -0,0 +1,47 @@
+package com.assignment.retrospectiveservice.logging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.*;
+
+import com.assignment.retrospectiveservice.dto.FeedbackItemDto;
+import com.assignment.retrospectiveservice.dto.RetrospectiveDto;
+import com.assignment.retrospectiveservice.model.FeedbackType;
+
+class LogSummariesTests {
+
+    private final LogSummaries logSummaries = new LogSummaries(10);
+
+    @Test
+    void testRetrospectiveSummaryHasCountsInsteadOfFeedback() {
+        RetrospectiveDto retrospectiveDto = new RetrospectiveDto("Sprint 42", "Summary", LocalDate.of(2024, 4, 10),
+                List.of("Chandra", "Balu"),
+                List.of(new FeedbackItemDto("Chandra", "A long and private body", FeedbackType.POSITIVE)));
+
+        assertEquals("name='Sprint 42', date=2024-04-10, participants=2, feedbackItems=1",
+                logSummaries.of(retrospectiveDto).toString());
+    }
+
+    @Test
+    void testFeedbackItemSummaryLeavesOutTheBody() {
+        UUID id = UUID.randomUUID();
+        FeedbackItemDto feedbackItemDto = new FeedbackItemDto(id, "Chandra", "A long and private body",
+                FeedbackType.IDEA);
+
+        assertEquals("id=" + id + ", name='Chandra', feedbackType=IDEA, bodyLength=23",
+                logSummaries.of(feedbackItemDto).toString());
+    }
+
+    @Test
+    void testLongNamesAreTruncated() {
+        RetrospectiveDto retrospectiveDto = new RetrospectiveDto("Quarterly planning retrospective", null,
+                LocalDate.of(2024, 4, 10), List.of("Chandra"), null);
+
+        assertEquals("name='Quarterly ...', date=2024-04-10, participants=1, feedbackItems=0",
+                logSummaries.of(retrospectiveDto).toString());
+    }
+}
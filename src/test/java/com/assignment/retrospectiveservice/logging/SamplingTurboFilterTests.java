@@ -0,0 +1,49 @@
+package com.assignment.retrospectiveservice.logging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.*;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+
+class SamplingTurboFilterTests {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private final Logger serviceLogger = loggerContext.getLogger("com.assignment.retrospectiveservice.service");
+    private final Logger otherLogger = loggerContext.getLogger("org.hibernate.SQL");
+    private SamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new SamplingTurboFilter();
+        filter.setLoggerPrefix("com.assignment.retrospectiveservice");
+        filter.setRate(0.0);
+    }
+
+    @Test
+    void testInfoEventsAreDroppedOutsideTheSample() {
+        assertEquals(FilterReply.DENY, decide(serviceLogger, Level.INFO));
+        assertEquals(FilterReply.DENY, decide(serviceLogger, Level.DEBUG));
+    }
+
+    @Test
+    void testWarningsAndErrorsAreAlwaysLogged() {
+        assertEquals(FilterReply.NEUTRAL, decide(serviceLogger, Level.WARN));
+        assertEquals(FilterReply.NEUTRAL, decide(serviceLogger, Level.ERROR));
+    }
+
+    @Test
+    void testOtherLoggersAndFullRateAreNotSampled() {
+        assertEquals(FilterReply.NEUTRAL, decide(otherLogger, Level.INFO));
+
+        filter.setRate(1.0);
+        assertEquals(FilterReply.NEUTRAL, decide(serviceLogger, Level.INFO));
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "message", null, null);
+    }
+}
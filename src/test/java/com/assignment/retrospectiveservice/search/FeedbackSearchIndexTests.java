@@ -0,0 +1,127 @@
+package com.assignment.retrospectiveservice.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.*;
+
+class FeedbackSearchIndexTests {
+
+    private final UUID retrospectiveId = UUID.randomUUID();
+    private FeedbackSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FeedbackSearchIndex();
+    }
+
+    @Test
+    void testSearchRanksMoreFrequentAndRarerTermsFirst() {
+        FeedbackDocument once = document("Chandra", "The deployment went fine");
+        FeedbackDocument twice = document("Balu", "Deployment, deployment and more deployment!");
+        FeedbackDocument both = document("Pramod", "Slow deployment pipeline");
+        FeedbackDocument none = document("Pramod", "Great teamwork");
+        index.index(List.of(once, twice, both, none));
+
+        FeedbackSearchIndex.Hits hits = index.search("deployment PIPELINE", 0, 10);
+
+        assertEquals(3, hits.total());
+        assertEquals(List.of(both.feedbackItemId(), twice.feedbackItemId(), once.feedbackItemId()),
+                ids(hits));
+        assertTrue(hits.hits().get(0).score() > hits.hits().get(1).score());
+        assertEquals(retrospectiveId, hits.hits().get(0).retrospectiveId());
+    }
+
+    @Test
+    void testSearchMatchesNames() {
+        FeedbackDocument byChandra = document("Chandra Penta", "Went live");
+        index.index(List.of(byChandra, document("Balu", "Went live")));
+
+        assertEquals(List.of(byChandra.feedbackItemId()), ids(index.search("chandra", 0, 10)));
+    }
+
+    @Test
+    void testSearchPagesThroughRankedResults() {
+        List<FeedbackDocument> documents = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            documents.add(document("Chandra", "release ".repeat(i) + "notes"));
+        }
+        index.index(documents);
+
+        FeedbackSearchIndex.Hits firstPage = index.search("release", 0, 2);
+        FeedbackSearchIndex.Hits lastPage = index.search("release", 4, 2);
+
+        assertEquals(5, firstPage.total());
+        assertEquals(List.of(documents.get(4).feedbackItemId(), documents.get(3).feedbackItemId()), ids(firstPage));
+        assertEquals(List.of(documents.get(0).feedbackItemId()), ids(lastPage));
+        assertTrue(index.search("release", 6, 2).hits().isEmpty());
+    }
+
+    @Test
+    void testFarPageIsEmptyWithoutSizingForIt() {
+        index.index(List.of(document("Chandra", "release notes"), document("Balu", "release train")));
+
+        // a heap of offset + limit entries would not fit in memory
+        FeedbackSearchIndex.Hits hits = index.search("release", Integer.MAX_VALUE - 10, 10);
+
+        assertEquals(2, hits.total());
+        assertTrue(hits.hits().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> index.search("release", -10, 10));
+    }
+
+    @Test
+    void testMissingBodyIsNotIndexedAsNull() {
+        FeedbackDocument withoutBody = document("Chandra", null);
+        index.index(List.of(withoutBody, document("Balu", "null pointer in the export")));
+
+        assertEquals(1, index.search("null", 0, 10).total());
+        assertEquals(List.of(withoutBody.feedbackItemId()), ids(index.search("chandra", 0, 10)));
+    }
+
+    @Test
+    void testIndexingAgainReplacesTheText() {
+        FeedbackDocument original = document("Chandra", "Flaky deployment");
+        index.index(List.of(original));
+
+        index.index(List.of(new FeedbackDocument(original.feedbackItemId(), retrospectiveId, "Chandra",
+                "Stable releases")));
+
+        assertEquals(0, index.search("deployment", 0, 10).total());
+        assertEquals(List.of(original.feedbackItemId()), ids(index.search("stable", 0, 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void testCompactionKeepsTheLatestText() {
+        FeedbackDocument kept = document("Balu", "Retro notes");
+        index.index(List.of(kept));
+        UUID updatedId = UUID.randomUUID();
+        // enough replacements for the deleted documents to trigger compaction
+        for (int i = 0; i < 3000; i++) {
+            index.index(List.of(new FeedbackDocument(updatedId, retrospectiveId, "Chandra", "Revision " + i)));
+        }
+
+        assertEquals(2, index.size());
+        assertEquals(List.of(updatedId), ids(index.search("2999", 0, 10)));
+        assertEquals(0, index.search("2998", 0, 10).total());
+        assertEquals(List.of(kept.feedbackItemId()), ids(index.search("notes", 0, 10)));
+    }
+
+    @Test
+    void testBlankQueryFindsNothing() {
+        index.index(List.of(document("Chandra", "Anything")));
+
+        assertEquals(0, index.search(" ,. ", 0, 10).total());
+    }
+
+    private FeedbackDocument document(String name, String body) {
+        return new FeedbackDocument(UUID.randomUUID(), retrospectiveId, name, body);
+    }
+
+    private static List<UUID> ids(FeedbackSearchIndex.Hits hits) {
+        return hits.hits().stream().map(FeedbackSearchIndex.Hit::feedbackItemId).toList();
+    }
+}
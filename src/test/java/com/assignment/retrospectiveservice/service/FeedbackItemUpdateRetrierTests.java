@@ -0,0 +1,80 @@
+package com.assignment.retrospectiveservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import com.assignment.retrospectiveservice.config.MetricsConfig;
+import com.assignment.retrospectiveservice.dto.FeedbackItemDto;
+import com.assignment.retrospectiveservice.exception.FeedbackItemConflictException;
+import com.assignment.retrospectiveservice.model.FeedbackItem;
+import com.assignment.retrospectiveservice.model.FeedbackType;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Verifies that feedback item updates losing to a concurrent update are retried
+ * a bounded number of times, and that real conflicts are not retried.
+ */
+class FeedbackItemUpdateRetrierTests {
+
+    private static final String FEEDBACK_ITEM_ID = UUID.randomUUID().toString();
+
+    private RetrospectiveService retrospectiveService;
+    private MeterRegistry meterRegistry;
+    private FeedbackItemUpdateRetrier feedbackItemUpdateRetrier;
+    private FeedbackItemDto feedbackItemDto;
+
+    @BeforeEach
+    void setUp() {
+        retrospectiveService = mock(RetrospectiveService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        feedbackItemUpdateRetrier = new FeedbackItemUpdateRetrier(retrospectiveService, meterRegistry, 3,
+                Duration.ofMillis(1));
+        feedbackItemDto = new FeedbackItemDto("Chandra", "Ship it", FeedbackType.PRAISE);
+    }
+
+    @Test
+    void testLostUpdateIsRetried() {
+        FeedbackItemDto updated = new FeedbackItemDto(UUID.fromString(FEEDBACK_ITEM_ID), "Chandra", "Ship it",
+                FeedbackType.PRAISE, 2L);
+        when(retrospectiveService.updateFeedbackItem("Sprint 1", FEEDBACK_ITEM_ID, feedbackItemDto))
+                .thenThrow(new ObjectOptimisticLockingFailureException(FeedbackItem.class, FEEDBACK_ITEM_ID))
+                .thenThrow(new CannotAcquireLockException("Timeout trying to lock table"))
+                .thenReturn(updated);
+
+        assertSame(updated, feedbackItemUpdateRetrier.updateFeedbackItem("Sprint 1", FEEDBACK_ITEM_ID,
+                feedbackItemDto));
+        verify(retrospectiveService, times(3)).updateFeedbackItem("Sprint 1", FEEDBACK_ITEM_ID, feedbackItemDto);
+        assertEquals(2, meterRegistry.get(MetricsConfig.FEEDBACK_UPDATE_RETRIES).counter().count());
+    }
+
+    @Test
+    void testRetriesAreBounded() {
+        when(retrospectiveService.updateFeedbackItem("Sprint 1", FEEDBACK_ITEM_ID, feedbackItemDto))
+                .thenThrow(new ObjectOptimisticLockingFailureException(FeedbackItem.class, FEEDBACK_ITEM_ID));
+
+        assertThrows(FeedbackItemConflictException.class,
+                () -> feedbackItemUpdateRetrier.updateFeedbackItem("Sprint 1", FEEDBACK_ITEM_ID, feedbackItemDto));
+        verify(retrospectiveService, times(3)).updateFeedbackItem("Sprint 1", FEEDBACK_ITEM_ID, feedbackItemDto);
+    }
+
+    @Test
+    void testStaleVersionIsNotRetried() {
+        when(retrospectiveService.updateFeedbackItem("Sprint 1", FEEDBACK_ITEM_ID, feedbackItemDto))
+                .thenThrow(new FeedbackItemConflictException("Feedback item was changed concurrently"));
+
+        assertThrows(FeedbackItemConflictException.class,
+                () -> feedbackItemUpdateRetrier.updateFeedbackItem("Sprint 1", FEEDBACK_ITEM_ID, feedbackItemDto));
+        verify(retrospectiveService, times(1)).updateFeedbackItem("Sprint 1", FEEDBACK_ITEM_ID, feedbackItemDto);
+        assertEquals(0, meterRegistry.get(MetricsConfig.FEEDBACK_UPDATE_RETRIES).counter().count());
+    }
+}
@@ -0,0 +1,99 @@
+package com.assignment.retrospectiveservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+
+import com.assignment.retrospectiveservice.dto.FeedbackItemDto;
+import com.assignment.retrospectiveservice.dto.FeedbackSearchResultDto;
+import com.assignment.retrospectiveservice.dto.RetrospectiveDto;
+import com.assignment.retrospectiveservice.exception.InvalidPageRequestException;
+import com.assignment.retrospectiveservice.model.FeedbackItem;
+import com.assignment.retrospectiveservice.model.FeedbackType;
+import com.assignment.retrospectiveservice.model.Retrospective;
+import com.assignment.retrospectiveservice.repository.RetrospectiveRepository;
+
+/**
+ * Verifies that feedback writes become searchable once committed and that the
+ * index can be rebuilt from the database.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:feedbacksearch")
+class FeedbackSearchServiceTests {
+
+    @Autowired
+    private FeedbackSearchService feedbackSearchService;
+
+    @Autowired
+    private RetrospectiveService retrospectiveService;
+
+    @Autowired
+    private RetrospectiveRepository retrospectiveRepository;
+
+    @AfterEach
+    void tearDown() {
+        retrospectiveRepository.deleteAll();
+        feedbackSearchService.rebuildIndex();
+    }
+
+    @Test
+    void testAddedAndUpdatedFeedbackIsSearchable() {
+        retrospectiveService.createRetrospective(new RetrospectiveDto("Sprint 1", null, LocalDate.of(2024, 4, 10),
+                List.of("Chandra", "Balu"), null));
+        FeedbackItemDto added = retrospectiveService.addFeedbackItem("Sprint 1",
+                new FeedbackItemDto("Chandra", "The deployment broke twice", FeedbackType.NEGATIVE));
+        retrospectiveService.addFeedbackItems("Sprint 1", List.of(
+                new FeedbackItemDto("Balu", "Smooth deployment on Friday", FeedbackType.POSITIVE),
+                new FeedbackItemDto("Balu", "More pairing", FeedbackType.IDEA)));
+
+        Page<FeedbackSearchResultDto> results = feedbackSearchService.searchFeedback("deployment", 0, 10);
+
+        assertEquals(2, results.getTotalElements());
+        assertTrue(results.getContent().stream().allMatch(result -> "Sprint 1".equals(result.getRetrospectiveName())));
+
+        retrospectiveService.updateFeedbackItem("Sprint 1", added.getId().toString(),
+                new FeedbackItemDto("Chandra", "Rollbacks were painless", FeedbackType.POSITIVE));
+
+        assertEquals(1, feedbackSearchService.searchFeedback("deployment", 0, 10).getTotalElements());
+        FeedbackSearchResultDto result = feedbackSearchService.searchFeedback("rollbacks", 0, 10).getContent().get(0);
+        assertEquals(added.getId(), result.getFeedbackItem().getId());
+        assertEquals("Rollbacks were painless", result.getFeedbackItem().getBody());
+    }
+
+    @Test
+    void testRebuildIndexesExistingFeedback() {
+        Retrospective retrospective = new Retrospective();
+        retrospective.setName("Imported");
+        retrospective.setDate(LocalDate.of(2024, 1, 1));
+        retrospective.setParticipants(List.of("Pramod"));
+        FeedbackItem feedbackItem = new FeedbackItem();
+        feedbackItem.setName("Pramod");
+        feedbackItem.setBody("Imported straight into the database");
+        feedbackItem.setFeedbackType(FeedbackType.IDEA);
+        feedbackItem.setRetrospective(retrospective);
+        retrospective.getFeedbackItems().add(feedbackItem);
+        retrospectiveRepository.save(retrospective);
+        assertEquals(0, feedbackSearchService.searchFeedback("imported", 0, 10).getTotalElements());
+
+        assertEquals(1, feedbackSearchService.rebuildIndex());
+
+        Page<FeedbackSearchResultDto> results = feedbackSearchService.searchFeedback("imported", 0, 10);
+        assertEquals(1, results.getTotalElements());
+        assertEquals("Imported", results.getContent().get(0).getRetrospectiveName());
+    }
+
+    @Test
+    void testPagesBeyondTheIndexRangeAreRejected() {
+        assertThrows(InvalidPageRequestException.class, () -> feedbackSearchService.searchFeedback("x", -1, 10));
+        assertThrows(InvalidPageRequestException.class, () -> feedbackSearchService.searchFeedback("x", 0, 0));
+        // the offset 40000000 * 100 does not fit in an int
+        assertThrows(InvalidPageRequestException.class,
+                () -> feedbackSearchService.searchFeedback("x", 40_000_000, 100));
+        assertEquals(0, feedbackSearchService.searchFeedback("x", 40_000_000, 10).getTotalElements());
+    }
+}
@@ -0,0 +1,204 @@
+package com.assignment.retrospectiveservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.assignment.retrospectiveservice.config.MetricsConfig;
+import com.assignment.retrospectiveservice.dto.FeedbackItemDto;
+import com.assignment.retrospectiveservice.exception.FeedbackWriteTimeoutException;
+import com.assignment.retrospectiveservice.exception.RetrospectiveNotFoundException;
+import com.assignment.retrospectiveservice.model.FeedbackType;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Verifies that concurrent feedback for one retrospective is added in a single
+ * transaction, and that every caller still gets its own result or error.
+ */
+class FeedbackWriteCoalescerTests {
+
+    private static final int CALLERS = 8;
+
+    /**
+     * Long enough for all callers to queue their items before the first batch is
+     * committed.
+     */
+    private static final Duration WINDOW = Duration.ofMillis(500);
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private RetrospectiveService retrospectiveService;
+    private MeterRegistry meterRegistry;
+    private FeedbackWriteCoalescer feedbackWriteCoalescer;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        retrospectiveService = mock(RetrospectiveService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        feedbackWriteCoalescer = new FeedbackWriteCoalescer(retrospectiveService, meterRegistry, true, WINDOW, 100,
+                TIMEOUT);
+        callers = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.close();
+        feedbackWriteCoalescer.close();
+    }
+
+    @Test
+    void testConcurrentItemsAreAddedInOneTransaction() throws Exception {
+        when(retrospectiveService.addFeedbackItems(eq("Sprint 1"), anyList())).thenAnswer(invocation -> {
+            List<FeedbackItemDto> feedbackItemDtos = invocation.getArgument(1);
+            return feedbackItemDtos.stream().map(FeedbackWriteCoalescerTests::created).toList();
+        });
+
+        List<Future<FeedbackItemDto>> results = postConcurrently("Sprint 1");
+
+        for (int i = 0; i < CALLERS; i++) {
+            FeedbackItemDto created = results.get(i).get();
+            assertNotNull(created.getId());
+            assertEquals("Feedback " + i, created.getBody());
+        }
+        verify(retrospectiveService).addFeedbackItems(eq("Sprint 1"),
+                argThat(feedbackItemDtos -> feedbackItemDtos.size() == CALLERS));
+        verify(retrospectiveService, never()).addFeedbackItem(any(), any());
+        assertEquals(CALLERS, meterRegistry.get(MetricsConfig.FEEDBACK_BATCH_SIZE).summary().max());
+    }
+
+    @Test
+    void testFailedBatchIsRetriedItemByItem() throws Exception {
+        when(retrospectiveService.addFeedbackItems(eq("Sprint 1"), anyList()))
+                .thenThrow(new DataIntegrityViolationException("value too long"));
+        when(retrospectiveService.addFeedbackItem(eq("Sprint 1"), any())).thenAnswer(invocation -> {
+            FeedbackItemDto feedbackItemDto = invocation.getArgument(1);
+            if (feedbackItemDto.getBody().equals("Feedback 3")) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+            return created(feedbackItemDto);
+        });
+
+        List<Future<FeedbackItemDto>> results = postConcurrently("Sprint 1");
+
+        for (int i = 0; i < CALLERS; i++) {
+            if (i == 3) {
+                ExecutionException ex = assertThrows(ExecutionException.class, results.get(i)::get);
+                assertInstanceOf(DataIntegrityViolationException.class, ex.getCause());
+            } else {
+                assertEquals("Feedback " + i, results.get(i).get().getBody());
+            }
+        }
+        verify(retrospectiveService, times(CALLERS)).addFeedbackItem(eq("Sprint 1"), any());
+    }
+
+    @Test
+    void testMissingRetrospectiveFailsEveryCaller() throws Exception {
+        when(retrospectiveService.addFeedbackItems(eq("Unknown"), anyList()))
+                .thenThrow(new RetrospectiveNotFoundException("Retrospective not found: Unknown"));
+
+        List<Future<FeedbackItemDto>> results = postConcurrently("Unknown");
+
+        for (Future<FeedbackItemDto> result : results) {
+            ExecutionException ex = assertThrows(ExecutionException.class, result::get);
+            assertInstanceOf(RetrospectiveNotFoundException.class, ex.getCause());
+        }
+        verify(retrospectiveService, never()).addFeedbackItem(any(), any());
+    }
+
+    @Test
+    void testFailedDrainFailsEveryCallerAndLaterPostsStillWork() throws Exception {
+        when(retrospectiveService.addFeedbackItems(eq("Sprint 1"), anyList()))
+                .thenThrow(new OutOfMemoryError("Java heap space"))
+                .thenAnswer(invocation -> {
+                    List<FeedbackItemDto> feedbackItemDtos = invocation.getArgument(1);
+                    return feedbackItemDtos.stream().map(FeedbackWriteCoalescerTests::created).toList();
+                });
+
+        for (Future<FeedbackItemDto> result : postConcurrently("Sprint 1")) {
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, ex.getCause());
+        }
+        for (Future<FeedbackItemDto> result : postConcurrently("Sprint 1")) {
+            assertNotNull(result.get(5, TimeUnit.SECONDS).getId());
+        }
+    }
+
+    @Test
+    void testCallerGivesUpAfterTheTimeout() {
+        FeedbackWriteCoalescer slow = new FeedbackWriteCoalescer(retrospectiveService, meterRegistry, true,
+                Duration.ofSeconds(1), 100, Duration.ofMillis(50));
+        FeedbackItemDto feedbackItemDto = new FeedbackItemDto("Chandra", "Ship it", FeedbackType.PRAISE);
+
+        assertThrows(FeedbackWriteTimeoutException.class, () -> slow.addFeedbackItem("Sprint 1", feedbackItemDto));
+        slow.close();
+        verify(retrospectiveService, never()).addFeedbackItem(any(), any());
+        verify(retrospectiveService, never()).addFeedbackItems(any(), anyList());
+    }
+
+    @Test
+    void testCallerWaitsPastTheTimeoutForACommittingBatch() {
+        FeedbackWriteCoalescer immediate = new FeedbackWriteCoalescer(retrospectiveService, meterRegistry, true,
+                Duration.ZERO, 100, Duration.ofMillis(50));
+        FeedbackItemDto feedbackItemDto = new FeedbackItemDto("Chandra", "Ship it", FeedbackType.PRAISE);
+        when(retrospectiveService.addFeedbackItem("Sprint 1", feedbackItemDto)).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            return created(feedbackItemDto);
+        });
+
+        // the item is added after the timeout, so the caller must not be told to retry it
+        assertNotNull(immediate.addFeedbackItem("Sprint 1", feedbackItemDto).getId());
+        immediate.close();
+    }
+
+    @Test
+    void testBatchSizeMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new FeedbackWriteCoalescer(retrospectiveService,
+                meterRegistry, true, WINDOW, 0, TIMEOUT));
+    }
+
+    @Test
+    void testSingleItemIsAddedOnItsOwn() {
+        FeedbackWriteCoalescer immediate = new FeedbackWriteCoalescer(retrospectiveService, meterRegistry, true,
+                Duration.ZERO, 100, TIMEOUT);
+        FeedbackItemDto feedbackItemDto = new FeedbackItemDto("Chandra", "Ship it", FeedbackType.PRAISE);
+        when(retrospectiveService.addFeedbackItem("Sprint 1", feedbackItemDto)).thenReturn(created(feedbackItemDto));
+
+        assertEquals("Ship it", immediate.addFeedbackItem("Sprint 1", feedbackItemDto).getBody());
+        verify(retrospectiveService, never()).addFeedbackItems(any(), anyList());
+        immediate.close();
+    }
+
+    private List<Future<FeedbackItemDto>> postConcurrently(String retrospectiveName) {
+        List<Future<FeedbackItemDto>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            FeedbackItemDto feedbackItemDto = new FeedbackItemDto("Chandra", "Feedback " + i, FeedbackType.IDEA);
+            results.add(callers.submit(() -> feedbackWriteCoalescer.addFeedbackItem(retrospectiveName,
+                    feedbackItemDto)));
+        }
+        return results;
+    }
+
+    private static FeedbackItemDto created(FeedbackItemDto feedbackItemDto) {
+        return new FeedbackItemDto(UUID.randomUUID(), feedbackItemDto.getName(), feedbackItemDto.getBody(),
+                feedbackItemDto.getFeedbackType());
+    }
+}
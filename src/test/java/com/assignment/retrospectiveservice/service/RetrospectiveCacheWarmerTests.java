@@ -0,0 +1,96 @@
+package com.assignment.retrospectiveservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.assignment.retrospectiveservice.config.CacheConfig;
+import com.assignment.retrospectiveservice.dto.FeedbackItemDto;
+import com.assignment.retrospectiveservice.dto.RetrospectiveDto;
+import com.assignment.retrospectiveservice.model.FeedbackType;
+import com.assignment.retrospectiveservice.repository.RetrospectiveRepository;
+import com.assignment.retrospectiveservice.repository.RetrospectiveRevision;
+
+/**
+ * Verifies the {@code persistent} profile: the schema is created by Flyway in a
+ * database file, and the most recent retrospectives are warmed into the
+ * caches.
+ */
+@SpringBootTest(properties = "retrospective.warm-up.retrospectives=2")
+@ActiveProfiles("persistent")
+@DirtiesContext
+class RetrospectiveCacheWarmerTests {
+
+    @TempDir
+    static Path storageDirectory;
+
+    @DynamicPropertySource
+    static void storageProperties(DynamicPropertyRegistry registry) {
+        registry.add("retrospective.storage.directory", storageDirectory::toString);
+    }
+
+    @Autowired
+    private RetrospectiveCacheWarmer retrospectiveCacheWarmer;
+
+    @Autowired
+    private RetrospectiveService retrospectiveService;
+
+    @Autowired
+    private RetrospectiveRepository retrospectiveRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private Flyway flyway;
+
+    @AfterEach
+    void tearDown() {
+        retrospectiveRepository.deleteAll();
+    }
+
+    @Test
+    void testSchemaIsMigratedInDatabaseFile() {
+        assertEquals("1", flyway.info().current().getVersion().getVersion());
+        assertTrue(Files.exists(storageDirectory.resolve("retrospectives.mv.db")));
+    }
+
+    @Test
+    void testWarmUpLoadsMostRecentRetrospectives() {
+        for (int day = 1; day <= 3; day++) {
+            retrospectiveService.createRetrospective(new RetrospectiveDto("Sprint " + day, null,
+                    LocalDate.of(2024, 4, day), List.of("Chandra"), null));
+        }
+        retrospectiveService.addFeedbackItem("Sprint 3",
+                new FeedbackItemDto("Chandra", "Keep the demos short", FeedbackType.IDEA));
+        Cache retrospectives = cacheManager.getCache(CacheConfig.RETROSPECTIVES);
+        Cache revisions = cacheManager.getCache(CacheConfig.RETROSPECTIVE_REVISIONS);
+        retrospectives.clear();
+        revisions.clear();
+
+        assertEquals(2, retrospectiveCacheWarmer.warmUp());
+
+        RevisedRetrospective warmed = retrospectives.get("Sprint 3", RevisedRetrospective.class);
+        assertNotNull(warmed);
+        assertEquals("Keep the demos short", warmed.retrospective().getFeedbackItems().get(0).getBody());
+        assertEquals(revisions.get("Sprint 3", RetrospectiveRevision.class), warmed.revision());
+        assertNotNull(retrospectives.get("Sprint 2"));
+        assertNotNull(revisions.get("Sprint 2"));
+        assertNull(retrospectives.get("Sprint 1"));
+    }
+}
@@ -0,0 +1,93 @@
+package com.assignment.retrospectiveservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.assignment.retrospectiveservice.dto.*;
+import com.assignment.retrospectiveservice.model.*;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+class RetrospectiveExportServiceTests {
+
+    private RetrospectiveService retrospectiveService;
+    private ObjectMapper objectMapper;
+    private RetrospectiveExportService retrospectiveExportService;
+
+    @BeforeEach
+    void setUp() {
+        retrospectiveService = mock(RetrospectiveService.class);
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        // configured like the builder Spring Boot hands to the XML message converter
+        Jackson2ObjectMapperBuilder objectMapperBuilder = new Jackson2ObjectMapperBuilder()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        retrospectiveExportService = new RetrospectiveExportService(retrospectiveService, objectMapper,
+                objectMapperBuilder);
+
+        List<RetrospectiveDto> retrospectiveDtos = List.of(
+                new RetrospectiveDto("Retrospective 1", "First", LocalDate.of(2024, 4, 10), List.of("Chandra"),
+                        List.of(new FeedbackItemDto("Chandra", "Ship it", FeedbackType.PRAISE))),
+                new RetrospectiveDto("Retrospective 2", "Second", LocalDate.of(2024, 4, 11), List.of("Balu"),
+                        List.of()));
+        when(retrospectiveService.exportRetrospectives(any())).thenAnswer(invocation -> {
+            Consumer<RetrospectiveDto> consumer = invocation.getArgument(0);
+            retrospectiveDtos.forEach(consumer);
+            return (long) retrospectiveDtos.size();
+        });
+    }
+
+    @Test
+    void testWriteNdjson_OneRetrospectivePerLine() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        long exported = retrospectiveExportService.writeNdjson(outputStream);
+
+        assertEquals(2, exported);
+        String ndjson = outputStream.toString(StandardCharsets.UTF_8);
+        assertTrue(ndjson.endsWith("\n"));
+        String[] lines = ndjson.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(Arrays.stream(lines).allMatch(line -> line.startsWith("{") && line.endsWith("}")), ndjson);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("Retrospective 1", first.get("name").asText());
+        assertEquals("Ship it", first.get("feedbackItems").get(0).get("body").asText());
+        assertEquals("Retrospective 2", objectMapper.readTree(lines[1]).get("name").asText());
+    }
+
+    @Test
+    void testWriteXml_OneElementPerRetrospective() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        long exported = retrospectiveExportService.writeXml(outputStream);
+
+        assertEquals(2, exported);
+        String xml = outputStream.toString(StandardCharsets.UTF_8);
+        assertTrue(xml.startsWith("<retrospectives><retrospective><name>Retrospective 1</name>"), xml);
+        assertTrue(xml.contains("<date>2024-04-10</date>"), xml);
+        assertTrue(xml.contains("</retrospective><retrospective><name>Retrospective 2</name>"), xml);
+        assertTrue(xml.endsWith("</retrospective></retrospectives>"), xml);
+    }
+
+    @Test
+    void testWriteNdjson_LeavesOutputStreamOpen() throws IOException {
+        OutputStream outputStream = spy(new ByteArrayOutputStream());
+
+        retrospectiveExportService.writeNdjson(outputStream);
+
+        verify(outputStream, never()).close();
+    }
+}
@@ -0,0 +1,416 @@
+package com.assignment.retrospectiveservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+
+import com.assignment.retrospectiveservice.config.CacheConfig;
+import com.assignment.retrospectiveservice.dto.CursorPageDto;
+import com.assignment.retrospectiveservice.dto.FeedbackItemDto;
+import com.assignment.retrospectiveservice.dto.FeedbackStatsDto;
+import com.assignment.retrospectiveservice.dto.RetrospectiveDto;
+import com.assignment.retrospectiveservice.dto.RetrospectiveFields;
+import com.assignment.retrospectiveservice.dto.RetrospectiveSummaryDto;
+import com.assignment.retrospectiveservice.exception.FeedbackItemConflictException;
+import com.assignment.retrospectiveservice.exception.RetrospectiveAlreadyExistsException;
+import com.assignment.retrospectiveservice.model.*;
+import com.assignment.retrospectiveservice.repository.RetrospectiveRepository;
+import com.assignment.retrospectiveservice.repository.RetrospectiveRevision;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifies that listing retrospectives runs a fixed number of statements per
+ * page, regardless of the page size.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:querycount",
+        "spring.jpa.properties.hibernate.generate_statistics=true" })
+class RetrospectiveServiceQueryCountTests {
+
+    private static final int RETROSPECTIVES = 60;
+    private static final int FEEDBACK_ITEMS_PER_RETROSPECTIVE = 3;
+
+    @Autowired
+    private RetrospectiveService retrospectiveService;
+
+    @Autowired
+    private FeedbackItemUpdateRetrier feedbackItemUpdateRetrier;
+
+    @Autowired
+    private RetrospectiveRepository retrospectiveRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        LocalDate date = LocalDate.of(2024, 4, 10);
+        List<Retrospective> retrospectives = new ArrayList<>();
+        for (int i = 0; i < RETROSPECTIVES; i++) {
+            Retrospective retrospective = new Retrospective();
+            retrospective.setName("Retrospective " + i);
+            retrospective.setDate(date);
+            retrospective.setParticipants(List.of("Chandra", "Balu"));
+            for (int j = 0; j < FEEDBACK_ITEMS_PER_RETROSPECTIVE; j++) {
+                FeedbackItem feedbackItem = new FeedbackItem();
+                feedbackItem.setName("Chandra");
+                feedbackItem.setBody("Feedback " + j);
+                feedbackItem.setFeedbackType(FeedbackType.IDEA);
+                feedbackItem.setRetrospective(retrospective);
+                retrospective.getFeedbackItems().add(feedbackItem);
+            }
+            retrospectives.add(retrospective);
+        }
+        retrospectiveRepository.saveAll(retrospectives);
+    }
+
+    @AfterEach
+    void tearDown() {
+        retrospectiveRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void testGetAllRetrospectives_StatementCountIndependentOfPageSize() {
+        Set<Long> statementCounts = new HashSet<>();
+        for (int pageSize : new int[] { 5, 20, 50 }) {
+            statistics.clear();
+            Page<RetrospectiveDto> page = retrospectiveService.getAllRetrospectives(0, pageSize);
+            statementCounts.add(statistics.getPrepareStatementCount());
+
+            assertEquals(pageSize, page.getContent().size());
+            assertEquals(RETROSPECTIVES, page.getTotalElements());
+            page.getContent().forEach(retrospectiveDto -> {
+                assertEquals(2, retrospectiveDto.getParticipants().size());
+                assertEquals(FEEDBACK_ITEMS_PER_RETROSPECTIVE, retrospectiveDto.getFeedbackItems().size());
+            });
+        }
+        assertEquals(1, statementCounts.size(), "statement count varies with page size: " + statementCounts);
+        assertTrue(statementCounts.iterator().next() <= 4);
+    }
+
+    @Test
+    void testGetRetrospectives_UnselectedCollectionsAreNotLoaded() {
+        Page<RetrospectiveRevision> revisions = retrospectiveService.getRetrospectiveRevisions(0, 20);
+
+        statistics.clear();
+        Page<RetrospectiveDto> page = retrospectiveService.getRetrospectives(revisions,
+                RetrospectiveFields.parse("name,date"));
+
+        assertEquals(20, page.getContent().size());
+        page.getContent().forEach(retrospectiveDto -> {
+            assertNotNull(retrospectiveDto.getName());
+            assertNull(retrospectiveDto.getParticipants());
+            assertNull(retrospectiveDto.getFeedbackItems());
+        });
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+        assertEquals(0, statistics.getEntityStatistics(FeedbackItem.class.getName()).getLoadCount());
+
+        // the participants alone take the query with the participants join
+        statistics.clear();
+        page = retrospectiveService.getRetrospectives(revisions, RetrospectiveFields.parse("name,participants"));
+        page.getContent().forEach(retrospectiveDto -> assertEquals(2, retrospectiveDto.getParticipants().size()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityStatistics(FeedbackItem.class.getName()).getLoadCount());
+    }
+
+    @Test
+    void testSearchRetrospectivesByDateRange_StatementCountIndependentOfPageSize() {
+        Set<Long> statementCounts = new HashSet<>();
+        for (int pageSize : new int[] { 5, 20, 50 }) {
+            statistics.clear();
+            Page<RetrospectiveDto> page = retrospectiveService.searchRetrospectivesByDateRange(
+                    LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 30), 0, pageSize, RetrospectiveFields.ALL);
+            statementCounts.add(statistics.getPrepareStatementCount());
+
+            assertEquals(pageSize, page.getContent().size());
+        }
+        assertEquals(1, statementCounts.size(), "statement count varies with page size: " + statementCounts);
+    }
+
+    @Test
+    void testScrollAllRetrospectives_VisitsEveryRetrospectiveOnceWithoutCounting() {
+        Set<String> names = new HashSet<>();
+        Set<Long> statementCounts = new HashSet<>();
+        String cursor = null;
+        do {
+            statistics.clear();
+            CursorPageDto<RetrospectiveDto> page = retrospectiveService.scrollAllRetrospectives(cursor, 7, false,
+                    RetrospectiveFields.ALL);
+            statementCounts.add(statistics.getPrepareStatementCount());
+            page.getContent().forEach(retrospectiveDto -> assertTrue(names.add(retrospectiveDto.getName())));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(RETROSPECTIVES, names.size());
+        assertTrue(statementCounts.stream().allMatch(count -> count <= 3), "statement counts: " + statementCounts);
+    }
+
+    @Test
+    void testGetRetrospectiveSummaries_CountsWithoutLoadingCollections() {
+        statistics.clear();
+        Page<RetrospectiveSummaryDto> page = retrospectiveService.getRetrospectiveSummaries(0, 20);
+
+        assertEquals(20, page.getContent().size());
+        assertEquals(RETROSPECTIVES, page.getTotalElements());
+        page.getContent().forEach(summary -> {
+            assertEquals(2, summary.getParticipantCount());
+            assertEquals(FEEDBACK_ITEMS_PER_RETROSPECTIVE, summary.getFeedbackItemCount());
+            assertEquals(FEEDBACK_ITEMS_PER_RETROSPECTIVE, summary.getFeedbackCounts().get(FeedbackType.IDEA));
+            assertEquals(0L, summary.getFeedbackCounts().get(FeedbackType.PRAISE));
+        });
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testGetRetrospective_ServedFromCacheUntilFeedbackIsAdded() {
+        statistics.clear();
+        RevisedRetrospective revisedRetrospective = retrospectiveService.getRevisedRetrospective("Retrospective 1",
+                RetrospectiveFields.ALL);
+        assertTrue(statistics.getPrepareStatementCount() > 0);
+
+        statistics.clear();
+        assertEquals(revisedRetrospective,
+                retrospectiveService.getRevisedRetrospective("Retrospective 1", RetrospectiveFields.ALL));
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        retrospectiveService.addFeedbackItem("Retrospective 1",
+                new FeedbackItemDto("Balu", "Cached boards stay fresh", FeedbackType.PRAISE));
+        RevisedRetrospective updated = retrospectiveService.getRevisedRetrospective("Retrospective 1",
+                RetrospectiveFields.ALL);
+        assertEquals(FEEDBACK_ITEMS_PER_RETROSPECTIVE + 1, updated.retrospective().getFeedbackItems().size());
+        assertEquals(revisedRetrospective.revision().revision() + 1, updated.revision().revision());
+    }
+
+    @Test
+    void testGetRetrospective_LoadOverlappingAWriteIsNotLeftCached() throws Exception {
+        RevisedRetrospective stale = retrospectiveService.getRevisedRetrospective("Retrospective 5",
+                RetrospectiveFields.ALL);
+        Cache cache = cacheManager.getCache(CacheConfig.RETROSPECTIVES);
+        cache.clear();
+        CountDownLatch loading = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // a load that read the retrospective before the write and only returns once the write has committed
+            Future<RevisedRetrospective> load = executor.submit(() -> cache.get("Retrospective 5", () -> {
+                loading.countDown();
+                while (retrospectiveRepository.findRevisionByName("Retrospective 5").orElseThrow()
+                        .revision() == stale.revision().revision()) {
+                    Thread.sleep(10);
+                }
+                return stale;
+            }));
+            loading.await();
+            retrospectiveService.addFeedbackItem("Retrospective 5",
+                    new FeedbackItemDto("Balu", "Written during a load", FeedbackType.IDEA));
+            assertEquals(stale, load.get());
+        } finally {
+            executor.shutdown();
+        }
+
+        assertNull(cache.get("Retrospective 5"));
+        assertEquals(stale.revision().revision() + 1, retrospectiveService
+                .getRevisedRetrospective("Retrospective 5", RetrospectiveFields.ALL).revision().revision());
+    }
+
+    @Test
+    void testAddFeedbackItems_InsertsAreBatched() {
+        List<FeedbackItemDto> feedbackItemDtos = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            feedbackItemDtos.add(new FeedbackItemDto("Balu", "Batched card " + i, FeedbackType.IDEA));
+        }
+
+        statistics.clear();
+        List<FeedbackItemDto> createdFeedbackItemDtos = retrospectiveService.addFeedbackItems("Retrospective 2",
+                feedbackItemDtos);
+
+        assertEquals(40, createdFeedbackItemDtos.size());
+        assertTrue(createdFeedbackItemDtos.stream().allMatch(feedbackItemDto -> feedbackItemDto.getId() != null));
+        assertEquals(40, statistics.getEntityInsertCount());
+        // the id lookup, a single batched insert statement, one tally update for the one participant and type
+        // and the revision update
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testGetRetrospectiveRevision_CachedAndAdvancedByWrites() {
+        statistics.clear();
+        RetrospectiveRevision revision = retrospectiveService.getRetrospectiveRevision("Retrospective 3");
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        // revalidating a retrospective does not touch the database while it is unchanged
+        statistics.clear();
+        assertEquals(revision, retrospectiveService.getRetrospectiveRevision("Retrospective 3"));
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        FeedbackItemDto feedbackItemDto = retrospectiveService.addFeedbackItem("Retrospective 3",
+                new FeedbackItemDto("Balu", "New card", FeedbackType.PRAISE));
+        RetrospectiveRevision added = retrospectiveService.getRetrospectiveRevision("Retrospective 3");
+        assertEquals(revision.id(), added.id());
+        assertEquals(revision.revision() + 1, added.revision());
+
+        retrospectiveService.updateFeedbackItem("Retrospective 3", feedbackItemDto.getId().toString(),
+                new FeedbackItemDto("Balu", "Edited card", FeedbackType.PRAISE));
+        assertEquals(added.revision() + 1, retrospectiveService.getRetrospectiveRevision("Retrospective 3").revision());
+        // other retrospectives keep their revision
+        assertEquals(0, retrospectiveService.getRetrospectiveRevision("Retrospective 4").revision());
+    }
+
+    @Test
+    void testGetFeedbackStats_ReadsTalliesMaintainedByWrites() {
+        retrospectiveService.createRetrospective(new RetrospectiveDto("Tallied", null, LocalDate.of(2024, 4, 11),
+                List.of("Chandra", "Balu"), List.of(new FeedbackItemDto("Chandra", "Created", FeedbackType.IDEA))));
+        retrospectiveService.addFeedbackItems("Tallied", List.of(
+                new FeedbackItemDto("Chandra", "Batched", FeedbackType.IDEA),
+                new FeedbackItemDto("Balu", "Batched", FeedbackType.NEGATIVE)));
+        FeedbackItemDto added = retrospectiveService.addFeedbackItem("Tallied",
+                new FeedbackItemDto("Balu", "Added", FeedbackType.NEGATIVE));
+        retrospectiveService.updateFeedbackItem("Tallied", added.getId().toString(),
+                new FeedbackItemDto("Balu", "Updated", FeedbackType.PRAISE));
+
+        statistics.clear();
+        FeedbackStatsDto feedbackStatsDto = retrospectiveService.getFeedbackStats("Tallied");
+
+        assertEquals(4, feedbackStatsDto.getFeedbackItemCount());
+        assertEquals(Map.of(FeedbackType.POSITIVE, 0L, FeedbackType.NEGATIVE, 1L, FeedbackType.IDEA, 2L,
+                FeedbackType.PRAISE, 1L), feedbackStatsDto.getFeedbackCounts());
+        assertEquals(2, feedbackStatsDto.getParticipants().size());
+        assertEquals("Balu", feedbackStatsDto.getParticipants().get(0).getName());
+        assertEquals(2, feedbackStatsDto.getParticipants().get(0).getFeedbackItemCount());
+        assertEquals(2L, feedbackStatsDto.getParticipants().get(1).getFeedbackCounts().get(FeedbackType.IDEA));
+        // the retrospective id is cached by the writes, leaving a single query of the tallies
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityStatistics(FeedbackItem.class.getName()).getLoadCount());
+    }
+
+    @Test
+    void testExportRetrospectives_StreamsEveryRetrospectiveWithFixedStatementCount() {
+        List<RetrospectiveDto> exported = new ArrayList<>();
+
+        statistics.clear();
+        long count = retrospectiveService.exportRetrospectives(exported::add);
+
+        assertEquals(RETROSPECTIVES, count);
+        assertEquals(RETROSPECTIVES, exported.size());
+        assertEquals(RETROSPECTIVES, exported.stream().map(RetrospectiveDto::getName).distinct().count());
+        exported.forEach(retrospectiveDto -> {
+            assertEquals(2, retrospectiveDto.getParticipants().size());
+            assertEquals(FEEDBACK_ITEMS_PER_RETROSPECTIVE, retrospectiveDto.getFeedbackItems().size());
+        });
+        // the streaming query plus one query per collection for the single chunk
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testCreateRetrospective_DuplicateNameRejectedByTheInsert() {
+        RetrospectiveDto retrospectiveDto = new RetrospectiveDto("Retrospective 3", null, LocalDate.of(2024, 4, 11),
+                List.of("Chandra"), List.of());
+
+        statistics.clear();
+        assertThrows(RetrospectiveAlreadyExistsException.class,
+                () -> retrospectiveService.createRetrospective(retrospectiveDto));
+
+        // no lookup by name before the insert
+        assertEquals(0, statistics.getQueryExecutionCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(RETROSPECTIVES, retrospectiveRepository.count());
+    }
+
+    @Test
+    void testCreateRetrospective_ConcurrentCreatorsOfOneNameGetOneRetrospective() throws Exception {
+        int creators = 8;
+        List<Future<RetrospectiveDto>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < creators; i++) {
+                RetrospectiveDto retrospectiveDto = new RetrospectiveDto("Contended", null, LocalDate.of(2024, 4, 11),
+                        List.of("Creator " + i), List.of());
+                results.add(executor.submit(() -> retrospectiveService.createRetrospective(retrospectiveDto)));
+            }
+        }
+
+        int created = 0;
+        for (Future<RetrospectiveDto> result : results) {
+            try {
+                assertEquals("Contended", result.get().getName());
+                created++;
+            } catch (ExecutionException ex) {
+                assertInstanceOf(RetrospectiveAlreadyExistsException.class, ex.getCause());
+            }
+        }
+        assertEquals(1, created);
+        assertEquals(RETROSPECTIVES + 1, retrospectiveRepository.count());
+    }
+
+    @Test
+    void testUpdateFeedbackItem_ConcurrentEditsOfOneItemAreNeitherLostNorMiscounted() throws Exception {
+        FeedbackItemDto created = retrospectiveService.addFeedbackItem("Retrospective 5",
+                new FeedbackItemDto("Chandra", "Contended", FeedbackType.IDEA));
+        String feedbackItemId = created.getId().toString();
+        FeedbackType[] types = FeedbackType.values();
+        int writers = 8;
+
+        List<Future<FeedbackItemDto>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < writers; i++) {
+                FeedbackItemDto feedbackItemDto = new FeedbackItemDto("Chandra", "Edit " + i,
+                        types[i % types.length]);
+                results.add(executor.submit(() -> feedbackItemUpdateRetrier.updateFeedbackItem("Retrospective 5",
+                        feedbackItemId, feedbackItemDto)));
+            }
+        }
+
+        long updated = 0;
+        for (Future<FeedbackItemDto> result : results) {
+            try {
+                result.get();
+                updated++;
+            } catch (ExecutionException ex) {
+                // only after losing every attempt
+                assertInstanceOf(FeedbackItemConflictException.class, ex.getCause());
+            }
+        }
+        assertTrue(updated > 0);
+        FeedbackItemDto current = retrospectiveService.getRevisedRetrospective("Retrospective 5",
+                RetrospectiveFields.ALL).retrospective().getFeedbackItems()
+                .stream().filter(feedbackItemDto -> feedbackItemDto.getId().equals(created.getId()))
+                .findFirst().orElseThrow();
+        // each successful update advanced the version once, and the tallies follow the last one
+        assertEquals(created.getVersion() + updated, current.getVersion());
+        // the seeded items bypass the tallies, so they only count the contended item
+        FeedbackStatsDto feedbackStatsDto = retrospectiveService.getFeedbackStats("Retrospective 5");
+        assertEquals(1, feedbackStatsDto.getFeedbackItemCount());
+        assertEquals(1L, feedbackStatsDto.getFeedbackCounts().get(current.getFeedbackType()));
+
+        // an update of the version read before the edits is a real conflict
+        assertThrows(FeedbackItemConflictException.class,
+                () -> feedbackItemUpdateRetrier.updateFeedbackItem("Retrospective 5", feedbackItemId,
+                        new FeedbackItemDto(null, "Chandra", "Stale", FeedbackType.IDEA, created.getVersion())));
+        FeedbackItemDto edited = feedbackItemUpdateRetrier.updateFeedbackItem("Retrospective 5", feedbackItemId,
+                new FeedbackItemDto(null, "Chandra", "Current", FeedbackType.IDEA, current.getVersion()));
+        assertEquals(current.getVersion() + 1, edited.getVersion());
+    }
+}
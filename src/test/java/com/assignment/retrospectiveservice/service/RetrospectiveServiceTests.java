@@ -4,32 +4,52 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.*;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.*;
 
+import com.assignment.retrospectiveservice.config.MetricsConfig;
 import com.assignment.retrospectiveservice.dto.*;
 import com.assignment.retrospectiveservice.exception.*;
+import com.assignment.retrospectiveservice.mapper.*;
 import com.assignment.retrospectiveservice.model.*;
 import com.assignment.retrospectiveservice.repository.*;
+import com.assignment.retrospectiveservice.search.*;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 
 @ExtendWith(MockitoExtension.class)
 class RetrospectiveServiceTests {
 
     private RetrospectiveRepository retrospectiveRepository;
-    private ModelMapper modelMapper;
+    private FeedbackItemRepository feedbackItemRepository;
+    private FeedbackTallyRepository feedbackTallyRepository;
+    private RetrospectiveMapper retrospectiveMapper;
+    private MeterRegistry meterRegistry;
+    private ApplicationEventPublisher eventPublisher;
     private RetrospectiveService retrospectiveService;
 
     @BeforeEach
     void setUp() {
         retrospectiveRepository = mock(RetrospectiveRepository.class);
-        modelMapper = new ModelMapper();
-        retrospectiveService = new RetrospectiveService(retrospectiveRepository, modelMapper);
+        feedbackItemRepository = mock(FeedbackItemRepository.class);
+        feedbackTallyRepository = mock(FeedbackTallyRepository.class);
+        retrospectiveMapper = new RetrospectiveMapperImpl();
+        meterRegistry = new SimpleMeterRegistry();
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        retrospectiveService = new RetrospectiveService(retrospectiveRepository, feedbackItemRepository,
+                feedbackTallyRepository, retrospectiveMapper, mock(EntityManager.class), meterRegistry,
+                eventPublisher);
     }
 
     @Test
@@ -40,8 +60,7 @@ class RetrospectiveServiceTests {
         retrospectiveDto.setDate(LocalDate.now());
         retrospectiveDto.setParticipants(Collections.singletonList("Participant 1"));
 
-        when(retrospectiveRepository.findByName(anyString())).thenReturn(Optional.empty());
-        when(retrospectiveRepository.save(any())).thenReturn(modelMapper.map(retrospectiveDto, Retrospective.class));
+        when(retrospectiveRepository.saveAndFlush(any())).thenReturn(retrospectiveMapper.toEntity(retrospectiveDto));
 
         // Call service method
         RetrospectiveDto createdRetrospectiveDto = retrospectiveService.createRetrospective(retrospectiveDto);
@@ -58,30 +77,132 @@ class RetrospectiveServiceTests {
         retrospectiveDto.setDate(LocalDate.now());
         retrospectiveDto.setParticipants(Collections.singletonList("Participant 1"));
 
-        when(retrospectiveRepository.findByName(anyString()))
-                .thenReturn(Optional.of(new Retrospective()));
+        when(retrospectiveRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement", new ConstraintViolationException("Unique index or primary key violation",
+                        new SQLException(), "PUBLIC.UK_RETROSPECTIVE_NAME_INDEX_1")));
 
         // Assertions
         assertThrows(RetrospectiveAlreadyExistsException.class,
                 () -> retrospectiveService.createRetrospective(retrospectiveDto));
     }
 
+    @Test
+    void testCreateRetrospective_OtherConstraintViolationIsNotAConflict() {
+        RetrospectiveDto retrospectiveDto = new RetrospectiveDto();
+        retrospectiveDto.setName("Retrospective 1");
+        retrospectiveDto.setDate(LocalDate.now());
+        retrospectiveDto.setParticipants(Collections.singletonList("Participant 1"));
+
+        when(retrospectiveRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement", new ConstraintViolationException("Value too long",
+                        new SQLException(), null)));
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> retrospectiveService.createRetrospective(retrospectiveDto));
+    }
+
+    @Test
+    void testGetRetrospective_Success() {
+        // Prepare test data
+        Retrospective retrospective = new Retrospective();
+        retrospective.setId(UUID.randomUUID());
+        retrospective.setRevision(3);
+        retrospective.setName("Retrospective 1");
+        retrospective.setParticipants(Collections.singletonList("Participant 1"));
+
+        when(retrospectiveRepository.findWithParticipantsByName("Retrospective 1"))
+                .thenReturn(Optional.of(retrospective));
+
+        // Call service method
+        RevisedRetrospective revisedRetrospective = retrospectiveService.getRevisedRetrospective("Retrospective 1",
+                RetrospectiveFields.ALL);
+
+        // Assertions: the revision is the one the retrospective was read at
+        RetrospectiveDto retrospectiveDto = revisedRetrospective.retrospective();
+        assertEquals("Retrospective 1", retrospectiveDto.getName());
+        assertEquals(retrospective.getParticipants(), retrospectiveDto.getParticipants());
+        assertEquals(new RetrospectiveRevision(retrospective.getId(), 3), revisedRetrospective.revision());
+    }
+
+    @Test
+    void testGetRetrospective_RetrospectiveNotFound() {
+        when(retrospectiveRepository.findWithParticipantsByName(anyString())).thenReturn(Optional.empty());
+
+        // Assertions
+        assertThrows(RetrospectiveNotFoundException.class,
+                () -> retrospectiveService.getRevisedRetrospective("NonExistentRetrospective",
+                        RetrospectiveFields.ALL));
+    }
+
+    @Test
+    void testGetRetrospective_SelectedFieldsSkipUnselectedCollections() {
+        // Prepare test data: collections that are not loaded stay null
+        Retrospective retrospective = new Retrospective();
+        retrospective.setName("Retrospective 1");
+        retrospective.setDate(LocalDate.of(2024, 4, 10));
+        retrospective.setParticipants(null);
+        retrospective.setFeedbackItems(null);
+
+        when(retrospectiveRepository.findByName("Retrospective 1")).thenReturn(Optional.of(retrospective));
+
+        // Call service method
+        RetrospectiveDto retrospectiveDto = retrospectiveService.getRevisedRetrospective("Retrospective 1",
+                RetrospectiveFields.parse("name,date")).retrospective();
+
+        // Assertions
+        assertEquals("Retrospective 1", retrospectiveDto.getName());
+        assertEquals(retrospective.getDate(), retrospectiveDto.getDate());
+        assertNull(retrospectiveDto.getParticipants());
+        assertNull(retrospectiveDto.getFeedbackItems());
+        verify(retrospectiveRepository, never()).findWithParticipantsByName(anyString());
+    }
+
+    @Test
+    void testGetRetrospectiveRevision_Success() {
+        RetrospectiveRevision revision = new RetrospectiveRevision(UUID.randomUUID(), 7);
+        when(retrospectiveRepository.findRevisionByName("Retrospective 1")).thenReturn(Optional.of(revision));
+
+        assertEquals(revision, retrospectiveService.getRetrospectiveRevision("Retrospective 1"));
+    }
+
+    @Test
+    void testGetRetrospectiveRevision_RetrospectiveNotFound() {
+        when(retrospectiveRepository.findRevisionByName(anyString())).thenReturn(Optional.empty());
+
+        assertThrows(RetrospectiveNotFoundException.class,
+                () -> retrospectiveService.getRetrospectiveRevision("NonExistentRetrospective"));
+    }
+
     @Test
     void testAddFeedbackItem_Success() {
         // Prepare test data
         String retrospectiveName = "Retrospective 1";
-        FeedbackItemDto feedbackItemDto = new FeedbackItemDto();
+        FeedbackItemDto feedbackItemDto = new FeedbackItemDto("Participant 1", "Went live!", FeedbackType.POSITIVE);
         Retrospective retrospective = new Retrospective();
+        retrospective.setId(UUID.randomUUID());
+        UUID feedbackItemId = UUID.randomUUID();
 
-        when(retrospectiveRepository.findByName(anyString())).thenReturn(Optional.of(retrospective));
-        when(retrospectiveRepository.save(any())).thenReturn(retrospective);
+        when(retrospectiveRepository.findIdByName(retrospectiveName)).thenReturn(Optional.of(retrospective.getId()));
+        when(retrospectiveRepository.getReferenceById(retrospective.getId())).thenReturn(retrospective);
+        when(feedbackItemRepository.save(any(FeedbackItem.class))).thenAnswer(invocation -> {
+            FeedbackItem feedbackItem = invocation.getArgument(0);
+            feedbackItem.setId(feedbackItemId);
+            return feedbackItem;
+        });
 
         // Call service method
-        RetrospectiveDto updatedRetrospectiveDto = retrospectiveService.addFeedbackItem(retrospectiveName,
+        FeedbackItemDto createdFeedbackItemDto = retrospectiveService.addFeedbackItem(retrospectiveName,
                 feedbackItemDto);
 
         // Assertions
-        assertNotNull(updatedRetrospectiveDto);
+        assertEquals(feedbackItemId, createdFeedbackItemDto.getId());
+        assertEquals(feedbackItemDto.getBody(), createdFeedbackItemDto.getBody());
+        assertEquals(1, meterRegistry.counter(MetricsConfig.FEEDBACK_ADDED, "type", "POSITIVE").count());
+        verify(feedbackTallyRepository).addToTally(retrospective.getId(), "Participant 1", FeedbackType.POSITIVE, 1);
+        verify(eventPublisher).publishEvent(new FeedbackItemsChangedEvent(List.of(new FeedbackDocument(
+                feedbackItemId, retrospective.getId(), "Participant 1", "Went live!"))));
+        verify(retrospectiveRepository, never()).findByName(anyString());
+        verify(retrospectiveRepository, never()).save(any());
     }
 
     @Test
@@ -90,36 +211,136 @@ class RetrospectiveServiceTests {
         String retrospectiveName = "NonExistentRetrospective";
         FeedbackItemDto feedbackItemDto = new FeedbackItemDto();
 
-        when(retrospectiveRepository.findByName(anyString())).thenReturn(Optional.empty());
+        when(retrospectiveRepository.findIdByName(anyString())).thenReturn(Optional.empty());
 
         // Assertions
         assertThrows(RetrospectiveNotFoundException.class,
                 () -> retrospectiveService.addFeedbackItem(retrospectiveName, feedbackItemDto));
+        verify(feedbackItemRepository, never()).save(any());
+        verify(feedbackTallyRepository, never()).addToTally(any(), any(), any(), anyLong());
+        assertTrue(meterRegistry.find(MetricsConfig.FEEDBACK_ADDED).counters().isEmpty());
     }
 
     @Test
     void testUpdateFeedbackItem_Success() {
         // Prepare test data
         String retrospectiveName = "Retrospective 1";
-        FeedbackItemDto feedbackItemDto = new FeedbackItemDto();
+        FeedbackItemDto feedbackItemDto = new FeedbackItemDto("Participant 1", "Updated body", FeedbackType.IDEA);
 
-        Retrospective retrospective = new Retrospective();
-        retrospective.setId(UUID.randomUUID());
-        retrospective.setFeedbackItems(new ArrayList<>());
+        UUID retrospectiveId = UUID.randomUUID();
         FeedbackItem feedbackItem = new FeedbackItem();
         UUID feedbackItemIdUUID = UUID.randomUUID();
         feedbackItem.setId(feedbackItemIdUUID);
-        retrospective.getFeedbackItems().add(feedbackItem);
+        feedbackItem.setName("Participant 1");
+        feedbackItem.setBody("Original body");
+        feedbackItem.setFeedbackType(FeedbackType.NEGATIVE);
 
-        when(retrospectiveRepository.findByName(anyString())).thenReturn(Optional.of(retrospective));
-        when(retrospectiveRepository.save(any())).thenReturn(retrospective);
+        when(retrospectiveRepository.findIdByName(anyString())).thenReturn(Optional.of(retrospectiveId));
+        when(feedbackItemRepository.findByIdAndRetrospectiveId(feedbackItemIdUUID, retrospectiveId))
+                .thenReturn(Optional.of(feedbackItem));
+        when(feedbackItemRepository.saveAndFlush(feedbackItem)).thenReturn(feedbackItem);
 
         // Call service method
-        RetrospectiveDto updatedRetrospectiveDto = retrospectiveService.updateFeedbackItem(retrospectiveName,
+        FeedbackItemDto updatedFeedbackItemDto = retrospectiveService.updateFeedbackItem(retrospectiveName,
                 feedbackItemIdUUID.toString(), feedbackItemDto);
 
         // Assertions
-        assertNotNull(updatedRetrospectiveDto);
+        assertEquals(feedbackItemIdUUID, updatedFeedbackItemDto.getId());
+        assertEquals("Updated body", updatedFeedbackItemDto.getBody());
+        assertEquals(FeedbackType.IDEA, updatedFeedbackItemDto.getFeedbackType());
+        assertEquals(1, meterRegistry.counter(MetricsConfig.FEEDBACK_UPDATED, "type", "IDEA").count());
+        // the item moves from the NEGATIVE to the IDEA tally
+        verify(feedbackTallyRepository).addToTally(retrospectiveId, "Participant 1", FeedbackType.NEGATIVE, -1);
+        verify(feedbackTallyRepository).addToTally(retrospectiveId, "Participant 1", FeedbackType.IDEA, 1);
+        verify(retrospectiveRepository, never()).save(any());
+    }
+
+    @Test
+    void testUpdateFeedbackItem_BodyOnlyLeavesTalliesAlone() {
+        // Prepare test data
+        UUID retrospectiveId = UUID.randomUUID();
+        FeedbackItem feedbackItem = new FeedbackItem();
+        feedbackItem.setId(UUID.randomUUID());
+        feedbackItem.setName("Participant 1");
+        feedbackItem.setBody("Original body");
+        feedbackItem.setFeedbackType(FeedbackType.IDEA);
+
+        when(retrospectiveRepository.findIdByName(anyString())).thenReturn(Optional.of(retrospectiveId));
+        when(feedbackItemRepository.findByIdAndRetrospectiveId(feedbackItem.getId(), retrospectiveId))
+                .thenReturn(Optional.of(feedbackItem));
+        when(feedbackItemRepository.saveAndFlush(feedbackItem)).thenReturn(feedbackItem);
+
+        // Call service method
+        retrospectiveService.updateFeedbackItem("Retrospective 1", feedbackItem.getId().toString(),
+                new FeedbackItemDto("Participant 1", "Updated body", FeedbackType.IDEA));
+
+        // Assertions
+        verify(feedbackTallyRepository, never()).addToTally(any(), any(), any(), anyLong());
+    }
+
+    @Test
+    void testUpdateFeedbackItem_StaleVersionIsAConflict() {
+        // Prepare test data
+        UUID retrospectiveId = UUID.randomUUID();
+        FeedbackItem feedbackItem = new FeedbackItem();
+        feedbackItem.setId(UUID.randomUUID());
+        feedbackItem.setName("Participant 1");
+        feedbackItem.setBody("Edited by someone else");
+        feedbackItem.setFeedbackType(FeedbackType.IDEA);
+        feedbackItem.setVersion(3L);
+
+        when(retrospectiveRepository.findIdByName(anyString())).thenReturn(Optional.of(retrospectiveId));
+        when(feedbackItemRepository.findByIdAndRetrospectiveId(feedbackItem.getId(), retrospectiveId))
+                .thenReturn(Optional.of(feedbackItem));
+
+        // Assertions
+        assertThrows(FeedbackItemConflictException.class,
+                () -> retrospectiveService.updateFeedbackItem("Retrospective 1", feedbackItem.getId().toString(),
+                        new FeedbackItemDto(null, "Participant 1", "Updated body", FeedbackType.IDEA, 2L)));
+        assertEquals("Edited by someone else", feedbackItem.getBody());
+        verify(feedbackItemRepository, never()).saveAndFlush(any());
+        verify(retrospectiveRepository, never()).incrementRevision(any());
+    }
+
+    @Test
+    void testGetFeedbackStats() {
+        // Prepare test data
+        UUID retrospectiveId = UUID.randomUUID();
+        when(retrospectiveRepository.findIdByName("Retrospective 1")).thenReturn(Optional.of(retrospectiveId));
+        when(feedbackTallyRepository.findByRetrospectiveId(retrospectiveId)).thenReturn(List.of(
+                tally(retrospectiveId, "Pramod", FeedbackType.IDEA, 2),
+                tally(retrospectiveId, "Chandra", FeedbackType.IDEA, 3),
+                tally(retrospectiveId, "Chandra", FeedbackType.PRAISE, 1)));
+
+        // Call service method
+        FeedbackStatsDto feedbackStatsDto = retrospectiveService.getFeedbackStats("Retrospective 1");
+
+        // Assertions
+        assertEquals(6, feedbackStatsDto.getFeedbackItemCount());
+        assertEquals(5L, feedbackStatsDto.getFeedbackCounts().get(FeedbackType.IDEA));
+        assertEquals(0L, feedbackStatsDto.getFeedbackCounts().get(FeedbackType.NEGATIVE));
+        assertEquals(List.of("Chandra", "Pramod"), feedbackStatsDto.getParticipants().stream()
+                .map(ParticipantFeedbackStatsDto::getName).toList());
+        ParticipantFeedbackStatsDto chandra = feedbackStatsDto.getParticipants().get(0);
+        assertEquals(4, chandra.getFeedbackItemCount());
+        assertEquals(1L, chandra.getFeedbackCounts().get(FeedbackType.PRAISE));
+        verify(feedbackItemRepository, never()).findAll();
+    }
+
+    @Test
+    void testGetFeedbackStats_RetrospectiveNotFound() {
+        when(retrospectiveRepository.findIdByName(anyString())).thenReturn(Optional.empty());
+
+        // Assertions
+        assertThrows(RetrospectiveNotFoundException.class,
+                () -> retrospectiveService.getFeedbackStats("NonExistentRetrospective"));
+    }
+
+    private static FeedbackTally tally(UUID retrospectiveId, String name, FeedbackType feedbackType, long count) {
+        FeedbackTally tally = new FeedbackTally();
+        tally.setId(new FeedbackTallyId(retrospectiveId, name, feedbackType));
+        tally.setItemCount(count);
+        return tally;
     }
 
     @Test
@@ -129,7 +350,7 @@ class RetrospectiveServiceTests {
         String feedbackItemId = "1";
         FeedbackItemDto feedbackItemDto = new FeedbackItemDto();
 
-        when(retrospectiveRepository.findByName(anyString())).thenReturn(Optional.empty());
+        when(retrospectiveRepository.findIdByName(anyString())).thenReturn(Optional.empty());
 
         // Assertions
         assertThrows(RetrospectiveNotFoundException.class,
@@ -143,25 +364,43 @@ class RetrospectiveServiceTests {
         String feedbackItemId = "NonExistentFeedbackItem";
         FeedbackItemDto feedbackItemDto = new FeedbackItemDto();
 
-        Retrospective retrospective = new Retrospective();
-        retrospective.setId(UUID.randomUUID());
-        retrospective.setFeedbackItems(new ArrayList<>());
-
-        when(retrospectiveRepository.findByName(anyString())).thenReturn(Optional.of(retrospective));
+        when(retrospectiveRepository.findIdByName(anyString())).thenReturn(Optional.of(UUID.randomUUID()));
 
         // Assertions
         assertThrows(FeedbackItemNotFoundException.class,
                 () -> retrospectiveService.updateFeedbackItem(retrospectiveName, feedbackItemId, feedbackItemDto));
     }
 
+    @Test
+    void testUpdateFeedbackItem_FeedbackItemOfOtherRetrospective() {
+        // Prepare test data
+        String retrospectiveName = "Retrospective 1";
+        UUID retrospectiveId = UUID.randomUUID();
+        UUID feedbackItemId = UUID.randomUUID();
+        FeedbackItemDto feedbackItemDto = new FeedbackItemDto();
+
+        when(retrospectiveRepository.findIdByName(anyString())).thenReturn(Optional.of(retrospectiveId));
+        when(feedbackItemRepository.findByIdAndRetrospectiveId(feedbackItemId, retrospectiveId))
+                .thenReturn(Optional.empty());
+
+        // Assertions
+        assertThrows(FeedbackItemNotFoundException.class, () -> retrospectiveService
+                .updateFeedbackItem(retrospectiveName, feedbackItemId.toString(), feedbackItemDto));
+    }
+
     @Test
     void testGetAllRetrospectives() {
         // Prepare test data
         Pageable pageable = PageRequest.of(0, 10);
-        List<Retrospective> retrospectives = Collections.singletonList(new Retrospective());
-        Page<Retrospective> page = new PageImpl<>(retrospectives);
+        Retrospective retrospective = new Retrospective();
+        retrospective.setId(UUID.randomUUID());
+        List<UUID> ids = Collections.singletonList(retrospective.getId());
+        Page<RetrospectiveRevision> page = new PageImpl<>(
+                Collections.singletonList(new RetrospectiveRevision(retrospective.getId(), 3)), pageable, 1);
 
-        when(retrospectiveRepository.findAll(pageable)).thenReturn(page);
+        when(retrospectiveRepository.findPageOfRevisions(pageable)).thenReturn(page);
+        when(retrospectiveRepository.findAllWithParticipantsByIdIn(ids))
+                .thenReturn(Collections.singletonList(retrospective));
 
         // Call service method
         Page<RetrospectiveDto> resultPage = retrospectiveService.getAllRetrospectives(0, 10);
@@ -169,23 +408,102 @@ class RetrospectiveServiceTests {
         // Assertions
         assertNotNull(resultPage);
         assertEquals(1, resultPage.getContent().size());
+        verify(retrospectiveRepository).findAllWithFeedbackItemsByIdIn(ids);
     }
 
     @Test
-    void testSearchRetrospectivesByDate() {
+    void testSearchRetrospectivesByDateRange() {
         // Prepare test data
         LocalDate date = LocalDate.now();
-        // Pageable pageable = PageRequest.of(0, 10);
-        List<Retrospective> retrospectives = Collections.singletonList(new Retrospective());
-        Page<Retrospective> page = new PageImpl<>(retrospectives);
+        Retrospective retrospective = new Retrospective();
+        retrospective.setId(UUID.randomUUID());
+        List<UUID> ids = Collections.singletonList(retrospective.getId());
+        Page<UUID> page = new PageImpl<>(ids);
 
-        when(retrospectiveRepository.findByDate(eq(date), any(Pageable.class))).thenReturn(page);
+        when(retrospectiveRepository.findPageOfIdsByDateBetween(eq(date), eq(date), any(Pageable.class)))
+                .thenReturn(page);
+        when(retrospectiveRepository.findAllWithParticipantsByIdIn(ids))
+                .thenReturn(Collections.singletonList(retrospective));
 
         // Call service method
-        Page<RetrospectiveDto> resultPage = retrospectiveService.searchRetrospectivesByDate(date, 0, 10);
+        Page<RetrospectiveDto> resultPage = retrospectiveService.searchRetrospectivesByDateRange(date, date, 0,
+                10, RetrospectiveFields.ALL);
 
         // Assertions
         assertNotNull(resultPage);
         assertEquals(1, resultPage.getContent().size());
     }
+
+    @Test
+    void testScrollAllRetrospectives_FirstPageReturnsCursorOfLastElement() {
+        // Prepare test data
+        Retrospective newer = new Retrospective();
+        newer.setId(UUID.randomUUID());
+        newer.setDate(LocalDate.of(2024, 4, 10));
+        Retrospective older = new Retrospective();
+        older.setId(UUID.randomUUID());
+        older.setDate(LocalDate.of(2024, 3, 27));
+        List<UUID> ids = Arrays.asList(newer.getId(), older.getId(), UUID.randomUUID());
+
+        when(retrospectiveRepository.findFirstIds(Limit.of(3))).thenReturn(ids);
+        when(retrospectiveRepository.findAllWithParticipantsByIdIn(ids.subList(0, 2)))
+                .thenReturn(Arrays.asList(older, newer));
+
+        // Call service method
+        CursorPageDto<RetrospectiveDto> resultPage = retrospectiveService.scrollAllRetrospectives(null, 2, false,
+                RetrospectiveFields.ALL);
+
+        // Assertions
+        assertEquals(2, resultPage.getContent().size());
+        assertEquals(newer.getDate(), resultPage.getContent().get(0).getDate());
+        assertNull(resultPage.getTotalElements());
+        verify(retrospectiveRepository, never()).count();
+
+        // The cursor continues after the last element of the page
+        when(retrospectiveRepository.findIdsAfter(older.getDate(), older.getId(), Limit.of(3)))
+                .thenReturn(Collections.emptyList());
+        CursorPageDto<RetrospectiveDto> nextPage = retrospectiveService
+                .scrollAllRetrospectives(resultPage.getNextCursor(), 2, false, RetrospectiveFields.ALL);
+        assertTrue(nextPage.getContent().isEmpty());
+        assertNull(nextPage.getNextCursor());
+    }
+
+    @Test
+    void testScrollRetrospectivesByDateRange_IncludeTotal() {
+        // Prepare test data
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 3, 31);
+
+        when(retrospectiveRepository.findFirstIdsByDateBetween(from, to, Limit.of(11)))
+                .thenReturn(Collections.emptyList());
+        when(retrospectiveRepository.countByDateBetween(from, to)).thenReturn(0L);
+
+        // Call service method
+        CursorPageDto<RetrospectiveDto> resultPage = retrospectiveService.scrollRetrospectivesByDateRange(from, to,
+                "", 10, true, RetrospectiveFields.ALL);
+
+        // Assertions
+        assertEquals(0L, resultPage.getTotalElements());
+        assertNull(resultPage.getNextCursor());
+    }
+
+    @Test
+    void testScrollAllRetrospectives_InvalidCursor() {
+        assertThrows(InvalidCursorException.class,
+                () -> retrospectiveService.scrollAllRetrospectives("not-a-cursor", 10, false,
+                        RetrospectiveFields.ALL));
+    }
+
+    @Test
+    void testScrollRetrospectives_InvalidPageSize() {
+        for (int pageSize : new int[] { 0, -1, RetrospectiveService.MAX_PAGE_SIZE + 1 }) {
+            assertThrows(InvalidPageRequestException.class,
+                    () -> retrospectiveService.scrollAllRetrospectives(null, pageSize, false,
+                            RetrospectiveFields.ALL));
+            assertThrows(InvalidPageRequestException.class,
+                    () -> retrospectiveService.scrollRetrospectivesByDateRange(LocalDate.of(2024, 1, 1),
+                            LocalDate.of(2024, 12, 31), null, pageSize, false, RetrospectiveFields.ALL));
+        }
+        verifyNoInteractions(retrospectiveRepository);
+    }
 }